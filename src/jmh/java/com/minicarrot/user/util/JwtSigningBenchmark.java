@@ -0,0 +1,90 @@
+package com.minicarrot.user.util;
+
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 서명/검증 비용 비교 (HS256 vs EdDSA vs ES256)
+ * - JwtUtil과 같은 클레임 구성으로 토큰 발급과 캐시 미스 시 검증 비용 측정
+ * - 실행: gradle jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtSigningBenchmark {
+
+    @Param({"HS256", "EdDSA", "ES256"})
+    private String algorithm;
+
+    private Key signingKey;
+    private JwtParser parser;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        switch (algorithm) {
+            case "HS256" -> {
+                var secret = Keys.hmacShaKeyFor("benchmark-secret-key-for-hs256-signing!!".getBytes(StandardCharsets.UTF_8));
+                signingKey = secret;
+                parser = Jwts.parser().verifyWith(secret).build();
+            }
+            case "EdDSA" -> {
+                KeyPair keyPair = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+                signingKey = keyPair.getPrivate();
+                parser = Jwts.parser().verifyWith(keyPair.getPublic()).build();
+            }
+            case "ES256" -> {
+                KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+                generator.initialize(new ECGenParameterSpec("secp256r1"));
+                KeyPair keyPair = generator.generateKeyPair();
+                signingKey = keyPair.getPrivate();
+                parser = Jwts.parser().verifyWith(keyPair.getPublic()).build();
+            }
+            default -> throw new IllegalStateException("지원하지 않는 알고리즘: " + algorithm);
+        }
+        token = sign();
+    }
+
+    @Benchmark
+    public String sign() {
+        Date now = new Date();
+        return Jwts.builder()
+                .id(UUID.randomUUID().toString())
+                .subject("user@example.com")
+                .claim("userId", 42L)
+                .claim("nickname", "당근")
+                .issuedAt(now)
+                .expiration(new Date(now.getTime() + TimeUnit.MINUTES.toMillis(15)))
+                .signWith(signingKey)
+                .compact();
+    }
+
+    @Benchmark
+    public Object verify() {
+        return parser.parseSignedClaims(token).getPayload();
+    }
+}
@@ -0,0 +1,11 @@
+package com.minicarrot.user.common;
+
+/**
+ * 토큰 누락/무효/폐기 등 인증 실패 (401)
+ */
+public class AuthenticationFailedException extends RuntimeException {
+
+    public AuthenticationFailedException(String message) {
+        super(message);
+    }
+}
@@ -12,10 +12,20 @@ public final class Constants {
         public static final String NICKNAME_ALREADY_EXISTS = "이미 존재하는 닉네임입니다.";
         public static final String USER_NOT_FOUND = "존재하지 않는 사용자입니다.";
         public static final String INVALID_PASSWORD = "비밀번호가 일치하지 않습니다.";
+        public static final String PASSWORD_CHANGED_CONCURRENTLY = "비밀번호가 다른 요청에 의해 변경되었습니다. 다시 시도해주세요.";
         public static final String INVALID_TOKEN = "유효하지 않은 토큰입니다.";
+        public static final String REVOKED_TOKEN = "로그아웃되어 더 이상 사용할 수 없는 토큰입니다.";
+        public static final String INVALID_REFRESH_TOKEN = "유효하지 않은 리프레시 토큰입니다.";
+        public static final String REFRESH_TOKEN_REUSED = "이미 사용된 리프레시 토큰입니다. 다시 로그인해주세요.";
         public static final String TOKEN_GENERATION_FAILED = "토큰 생성에 실패했습니다.";
         public static final String VALIDATION_FAILED = "입력 데이터가 유효하지 않습니다.";
         public static final String INTERNAL_SERVER_ERROR = "서버 내부 오류가 발생했습니다.";
+        public static final String TOO_MANY_LOGIN_ATTEMPTS = "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.";
+        public static final String SERVICE_OVERLOADED = "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.";
+        public static final String AUTHENTICATION_UNAVAILABLE = "인증 정보를 확인할 수 없습니다. 잠시 후 다시 시도해주세요.";
+        public static final String INVALID_EVENT = "이벤트 형식이 올바르지 않습니다.";
+        public static final String INVALID_SERVICE_TOKEN = "서비스 인증에 실패했습니다.";
+        public static final String EVENT_PROCESSING_FAILED = "이벤트 처리에 실패했습니다. 다시 전송해주세요.";
         
         private ErrorMessage() {}
     }
@@ -25,6 +35,8 @@ public final class Constants {
         public static final String REGISTER_SUCCESS = "회원가입이 완료되었습니다.";
         public static final String LOGIN_SUCCESS = "로그인이 완료되었습니다.";
         public static final String PROFILE_RETRIEVED = "프로필 조회가 완료되었습니다.";
+        public static final String LOGOUT_SUCCESS = "로그아웃이 완료되었습니다.";
+        public static final String TOKEN_REFRESHED = "토큰이 재발급되었습니다.";
         
         private SuccessMessage() {}
     }
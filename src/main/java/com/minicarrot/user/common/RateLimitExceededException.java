@@ -0,0 +1,17 @@
+package com.minicarrot.user.common;
+
+import lombok.Getter;
+
+/**
+ * 요청 빈도 제한 초과 (429)
+ */
+@Getter
+public class RateLimitExceededException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
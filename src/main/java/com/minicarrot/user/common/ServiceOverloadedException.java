@@ -0,0 +1,15 @@
+package com.minicarrot.user.common;
+
+/**
+ * 처리 용량 초과 - 잠시 후 재시도하면 되는 일시적 거절 (503)
+ */
+public class ServiceOverloadedException extends RuntimeException {
+
+    public ServiceOverloadedException(String message) {
+        super(message);
+    }
+
+    public ServiceOverloadedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
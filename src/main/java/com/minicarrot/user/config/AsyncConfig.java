@@ -1,24 +1,64 @@
 package com.minicarrot.user.config;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
-import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
 @EnableAsync
 public class AsyncConfig {
 
+    /**
+     * 대시보드 백그라운드 로드 실행기
+     * - 로드 구독 시작과 결과 전송(SSE)만 실행 - 상류 응답 대기 중에는 스레드를 점유하지 않음
+     * - 동시 로드 수 상한은 AsyncDashboardService의 max-concurrent-loads
+     * - 대기열 길이/활성 스레드는 executor.* {name=dashboard.load}, 거절 건수는 dashboard.load.rejected로 노출
+     */
     @Bean(name = "dashboardTaskExecutor")
-    public Executor dashboardTaskExecutor() {
+    public ThreadPoolTaskExecutor dashboardTaskExecutor(MeterRegistry meterRegistry) {
+        Counter rejected = Counter.builder("dashboard.load.rejected")
+                .description("대기열 초과로 거절된 대시보드 로드 수")
+                .register(meterRegistry);
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(5);
         executor.setMaxPoolSize(10);
         executor.setQueueCapacity(25);
         executor.setThreadNamePrefix("Dashboard-");
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            rejected.increment();
+            throw new RejectedExecutionException("대시보드 로드 대기열 초과: queued=" + pool.getQueue().size());
+        });
+        executor.initialize();
+
+        new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), "dashboard.load", Tags.empty()).bindTo(meterRegistry);
+        return executor;
+    }
+
+    /**
+     * 비밀번호 재해시 후속 DB 갱신 실행기
+     * - 해시 전용 스레드가 DB 커넥션 대기로 묶이지 않도록 갱신은 별도 스레드에서 수행
+     * - 대기열이 가득 차면 거절 (재해시는 다음 로그인에서 다시 시도)
+     */
+    @Bean(name = "passwordRehashExecutor")
+    public ThreadPoolTaskExecutor passwordRehashExecutor(MeterRegistry meterRegistry) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("PasswordRehash-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
         executor.initialize();
+
+        new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), "password.rehash", Tags.empty()).bindTo(meterRegistry);
         return executor;
     }
-} 
\ No newline at end of file
+}
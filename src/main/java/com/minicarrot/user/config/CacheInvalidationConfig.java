@@ -0,0 +1,39 @@
+package com.minicarrot.user.config;
+
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Base64UrlNamingStrategy;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.FanoutExchange;
+import org.springframework.amqp.core.Queue;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 클러스터 캐시 무효화용 RabbitMQ 토폴로지
+ * - fanout 익스체인지 하나에 인스턴스별 자동 삭제 큐를 바인딩
+ * - app.cache.invalidation.transport=rabbit 일 때만 활성화
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.cache.invalidation.transport", havingValue = "rabbit")
+public class CacheInvalidationConfig {
+
+    @Bean
+    public FanoutExchange cacheInvalidationExchange(CacheInvalidationProperties properties) {
+        return new FanoutExchange(properties.getExchange(), true, false);
+    }
+
+    /**
+     * 인스턴스 전용 큐 (비영속, 배타적, 연결 종료 시 자동 삭제)
+     */
+    @Bean
+    public Queue cacheInvalidationQueue() {
+        return new AnonymousQueue(new Base64UrlNamingStrategy("user-service.cache-invalidation."));
+    }
+
+    @Bean
+    public Binding cacheInvalidationBinding(Queue cacheInvalidationQueue, FanoutExchange cacheInvalidationExchange) {
+        return BindingBuilder.bind(cacheInvalidationQueue).to(cacheInvalidationExchange);
+    }
+}
@@ -0,0 +1,24 @@
+package com.minicarrot.user.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 캐시 무효화 전파 설정
+ * - transport: loopback(단일 프로세스) 또는 rabbit(클러스터 전파)
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.cache.invalidation")
+public class CacheInvalidationProperties {
+    private String transport = "loopback";
+    // 인스턴스 간 무효화 메시지를 전달하는 fanout 익스체인지
+    private String exchange = "user-service.cache-invalidation";
+    // 무효화 요청을 모아서 보내는 주기
+    private Duration flushInterval = Duration.ofMillis(50);
+    // 메시지 하나에 담는 최대 사용자 수
+    private int maxBatchSize = 500;
+}
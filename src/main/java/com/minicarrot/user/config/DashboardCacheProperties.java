@@ -0,0 +1,28 @@
+package com.minicarrot.user.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * 대시보드 캐시 설정
+ * - 상품 이벤트는 캐시된 통계에 바로 반영, Product Service 재조회는 정합성 보정용
+ * - soft TTL이 지나면 기존 값을 그대로 응답하면서 백그라운드로 한 번만 재조회
+ * - hard TTL이 지나면 제거 (그 사이 조회가 없던 사용자)
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.cache.dashboard")
+public class DashboardCacheProperties {
+    // 정합성 보정 주기 - 마지막 재조회 후 이 시간이 지나면 다음 조회 때 백그라운드 재조회 (이벤트 반영으로는 연장되지 않음)
+    private Duration softTtl = Duration.ofMinutes(5);
+    // 마지막 재조회 후 이 시간이 지나면 제거
+    private Duration hardTtl = Duration.ofMinutes(30);
+    // 캐시 메모리 예산 (항목 크기 추정치 기준)
+    private DataSize maxMemory = DataSize.ofMegabytes(32);
+    // 동시에 진행할 수 있는 로드/갱신 수 - 넘으면 거절 (dashboard.load.rejected), 다음 조회에서 다시 시도
+    private int maxConcurrentLoads = 35;
+}
@@ -0,0 +1,24 @@
+package com.minicarrot.user.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * JWT 토큰 캐시 설정
+ * - 항목 수 상한과 메모리 예산을 함께 적용
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "jwt.cache")
+public class JwtCacheProperties {
+    // 최대 캐시 항목 수
+    private long maxEntries = 100_000;
+    // 캐시 메모리 예산 (항목 크기 추정치 기준)
+    private DataSize maxMemory = DataSize.ofMegabytes(64);
+    // 항목 최대 수명 (토큰 만료 시각이 더 빠르면 그 시각에 만료)
+    private Duration ttl = Duration.ofMinutes(5);
+}
@@ -0,0 +1,39 @@
+package com.minicarrot.user.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JWT 서명 방식 설정
+ * - HS256(기본): jwt.secret 공유 비밀키
+ * - EdDSA / ES256: 비대칭 키, 공개키는 /.well-known/jwks.json 으로 공개
+ * - 키 교체: 새 키를 keys에 추가 → JWKS 배포 후 active-kid 전환 → 기존 토큰 만료 후 이전 키 제거
+ * - 비대칭 모드에서 kid 없는 토큰은 거부, 전환 기간에만 legacy-hmac-accept-until 시각까지 기존 HS256 토큰 허용
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "jwt.signing")
+public class JwtSigningProperties {
+    // HS256 | EdDSA | ES256
+    private String algorithm = "HS256";
+    // 서명에 사용할 키 ID (비어 있으면 개인키가 있는 첫 번째 키)
+    private String activeKid;
+    // 검증/서명 키 목록 (개인키 없이 공개키만 두면 검증 전용)
+    private List<KeyEntry> keys = new ArrayList<>();
+    // 비대칭 모드에서 kid 없는 기존 HS256 토큰을 허용하는 마감 시각 (비어 있으면 허용하지 않음)
+    private Instant legacyHmacAcceptUntil;
+
+    @Data
+    public static class KeyEntry {
+        private String kid;
+        // PKCS#8 DER(Base64) 또는 PEM
+        private String privateKey;
+        // X.509 SubjectPublicKeyInfo DER(Base64) 또는 PEM
+        private String publicKey;
+    }
+}
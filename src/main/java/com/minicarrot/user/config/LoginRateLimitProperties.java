@@ -0,0 +1,29 @@
+package com.minicarrot.user.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 로그인 시도 제한 설정 (IP별, 이메일별 각각 적용)
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.login-rate-limit")
+public class LoginRateLimitProperties {
+    private boolean enabled = true;
+    // IP당 분당 허용 시도 수와 순간 허용량
+    private int ipRatePerMinute = 30;
+    private int ipBurst = 10;
+    // 이메일당 분당 허용 시도 수와 순간 허용량
+    private int emailRatePerMinute = 10;
+    private int emailBurst = 5;
+    // 추적할 최대 키 수 (초과 시 오래 쓰이지 않은 키부터 제거)
+    private long maxKeys = 100_000;
+    // 이 시간 동안 시도가 없으면 키 제거
+    private Duration idleTimeout = Duration.ofMinutes(10);
+    // 프록시 뒤에서만 true (X-Forwarded-For 첫 번째 주소 사용)
+    private boolean trustForwardedFor = false;
+}
@@ -0,0 +1,63 @@
+package com.minicarrot.user.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 비밀번호 인코더 구성
+ * - {id} 접두사로 알고리즘을 구분하는 DelegatingPasswordEncoder
+ * - 접두사 없는 기존 해시는 BCrypt로 검증 (도입 이전 가입자)
+ * - 강도는 설정값으로 고정 (모든 인스턴스가 같은 해시 파라미터를 사용해야 재해시가 반복되지 않음)
+ */
+@Slf4j
+@Configuration
+public class PasswordEncoderConfig {
+
+    private static final String BCRYPT = "bcrypt";
+    private static final String PBKDF2 = "pbkdf2";
+    private static final String ARGON2 = "argon2";
+
+    @Bean
+    public PasswordEncoder passwordEncoder(PasswordEncoderProperties properties) {
+        String idForEncode = resolveAlgorithm(properties.getAlgorithm());
+
+        int bcryptStrength = properties.getBcryptStrength();
+        int pbkdf2Iterations = properties.getPbkdf2Iterations();
+
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put(BCRYPT, new BCryptPasswordEncoder(bcryptStrength));
+        encoders.put(PBKDF2, pbkdf2(pbkdf2Iterations));
+        encoders.put(ARGON2, new Argon2PasswordEncoder(16, 32, properties.getArgon2Parallelism(),
+                properties.getArgon2MemoryKb(), properties.getArgon2Iterations()));
+
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(idForEncode, encoders);
+        // 접두사 없는 기존 해시는 BCrypt (cost와 무관하게 검증 가능)
+        encoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+
+        log.info("비밀번호 인코더 초기화: algorithm={}, bcryptStrength={}, pbkdf2Iterations={}",
+                idForEncode, bcryptStrength, pbkdf2Iterations);
+        return encoder;
+    }
+
+    private static String resolveAlgorithm(String algorithm) {
+        String id = algorithm == null ? BCRYPT : algorithm.trim().toLowerCase();
+        if (!BCRYPT.equals(id) && !PBKDF2.equals(id) && !ARGON2.equals(id)) {
+            throw new IllegalStateException("지원하지 않는 비밀번호 해시 알고리즘: " + algorithm);
+        }
+        return id;
+    }
+
+    private static Pbkdf2PasswordEncoder pbkdf2(int iterations) {
+        return new Pbkdf2PasswordEncoder("", 16, iterations,
+                Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256);
+    }
+}
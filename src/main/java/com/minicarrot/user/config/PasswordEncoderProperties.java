@@ -0,0 +1,25 @@
+package com.minicarrot.user.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비밀번호 해시 알고리즘/강도 설정
+ * - 기존 해시는 그대로 검증하고, 로그인 성공 시 현재 설정으로 백그라운드 재해시
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.password-encoder")
+public class PasswordEncoderProperties {
+    // bcrypt | pbkdf2 | argon2
+    private String algorithm = "bcrypt";
+    // BCrypt cost (2^n 라운드)
+    private int bcryptStrength = 10;
+    // PBKDF2-HMAC-SHA256 반복 횟수
+    private int pbkdf2Iterations = 310_000;
+    // Argon2id 파라미터
+    private int argon2MemoryKb = 19_456;
+    private int argon2Iterations = 2;
+    private int argon2Parallelism = 1;
+}
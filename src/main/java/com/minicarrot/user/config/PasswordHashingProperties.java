@@ -0,0 +1,22 @@
+package com.minicarrot.user.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 비밀번호 해시 전용 실행기 설정
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.password-hashing")
+public class PasswordHashingProperties {
+    // 해시 스레드 수 (0 이하면 CPU 코어 수)
+    private int threads = 0;
+    // 대기열 길이 (가득 차면 즉시 503 응답)
+    private int queueCapacity = 64;
+    // 요청 스레드가 해시 결과를 기다리는 최대 시간
+    private Duration timeout = Duration.ofSeconds(5);
+}
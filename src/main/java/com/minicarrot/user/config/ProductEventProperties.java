@@ -0,0 +1,19 @@
+package com.minicarrot.user.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Product Service 이벤트 수신(/api/events/**) 설정
+ * - 이벤트는 판매/구매 집계를 바꾸므로 서비스 간 공유 비밀로 호출자를 확인
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.product-service.events")
+public class ProductEventProperties {
+    // Product Service와 공유하는 비밀 값 (비어 있으면 모든 이벤트 요청 거절)
+    private String sharedSecret = "";
+    // 공유 비밀을 담는 요청 헤더
+    private String header = "X-Service-Token";
+}
@@ -0,0 +1,25 @@
+package com.minicarrot.user.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 판매자별 상품 로컬 인덱스 설정
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.product-service.index")
+public class ProductIndexProperties {
+    private boolean enabled = true;
+    // 초기 적재 시 한 번에 받아올 상품 수
+    private int pageSize = 500;
+    // 페이지 수 상한 (Product Service가 페이징을 무시하는 경우 대비)
+    private int maxPages = 1_000;
+    // 이벤트 유실 보정을 위한 전체 재적재 주기
+    private Duration reseedInterval = Duration.ofMinutes(10);
+    // 적재 실패 시 재시도 간격
+    private Duration retryInterval = Duration.ofSeconds(30);
+}
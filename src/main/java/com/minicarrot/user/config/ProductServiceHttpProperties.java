@@ -0,0 +1,38 @@
+package com.minicarrot.user.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Product Service 호출용 HTTP 클라이언트 설정
+ * - 커넥션 풀을 모든 호출이 공유하고 keep-alive로 재사용
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.product-service.http")
+public class ProductServiceHttpProperties {
+    // 전체/호스트별 최대 커넥션 수 (호출 대상이 하나이므로 보통 같게 둠)
+    private int maxConnections = 50;
+    private int maxConnectionsPerRoute = 50;
+    private Duration connectTimeout = Duration.ofSeconds(2);
+    // 호출별 타임아웃을 지정하지 않은 요청의 응답 대기 시간
+    private Duration responseTimeout = Duration.ofSeconds(10);
+    // 풀에서 커넥션을 얻기까지 기다리는 최대 시간 (풀 고갈 시 빠르게 실패)
+    private Duration connectionRequestTimeout = Duration.ofMillis(500);
+    // 서버가 Keep-Alive 헤더를 주지 않을 때 유지 시간
+    private Duration keepAlive = Duration.ofSeconds(30);
+    // 유휴 커넥션 정리 기준
+    private Duration idleEvictTimeout = Duration.ofSeconds(30);
+    // 이 시간 이상 쉰 커넥션은 재사용 전에 상태 확인
+    private Duration validateAfterInactivity = Duration.ofSeconds(2);
+    // 리액티브 클라이언트(WebClient) 풀에서 커넥션을 기다릴 수 있는 최대 요청 수
+    private int maxPendingAcquires = 500;
+    // 리액티브 클라이언트의 HTTP/2 cleartext(h2c) 사용 여부 - Product Service가 지원할 때만
+    private boolean http2 = false;
+    // 리액티브 클라이언트가 응답 본문을 메모리에 모을 수 있는 최대 크기 (코덱 버퍼 상한)
+    private DataSize maxInMemorySize = DataSize.ofMegabytes(16);
+}
@@ -0,0 +1,91 @@
+package com.minicarrot.user.config;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Product Service 호출 보호 (blocking/reactive 클라이언트 공용)
+ * - 서킷 브레이커: 실패율/느린 호출 비율로 오픈, 대기 후 half-open 시험 호출로 복구
+ * - 벌크헤드: 통계/상품 목록 엔드포인트별 동시 호출 수 제한 (대기 없이 즉시 거절)
+ * - 상태/호출 결과는 resilience4j.circuitbreaker.*, resilience4j.bulkhead.* 메트릭으로 노출
+ */
+@Slf4j
+@Configuration
+public class ProductServiceResilienceConfig {
+
+    public static final String CIRCUIT_BREAKER_NAME = "product-service";
+    public static final String STATS_BULKHEAD_NAME = "product-service-stats";
+    public static final String PRODUCTS_BULKHEAD_NAME = "product-service-products";
+
+    @Bean
+    public CircuitBreakerRegistry productServiceCircuitBreakerRegistry(MeterRegistry meterRegistry) {
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.ofDefaults();
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+        return registry;
+    }
+
+    @Bean
+    public BulkheadRegistry productServiceBulkheadRegistry(MeterRegistry meterRegistry) {
+        BulkheadRegistry registry = BulkheadRegistry.ofDefaults();
+        TaggedBulkheadMetrics.ofBulkheadRegistry(registry).bindTo(meterRegistry);
+        return registry;
+    }
+
+    @Bean
+    public CircuitBreaker productServiceCircuitBreaker(CircuitBreakerRegistry productServiceCircuitBreakerRegistry,
+                                                       ProductServiceResilienceProperties properties) {
+        CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(properties.getSlidingWindowSize())
+                .minimumNumberOfCalls(properties.getMinimumNumberOfCalls())
+                .failureRateThreshold(properties.getFailureRateThreshold())
+                .slowCallDurationThreshold(properties.getSlowCallDurationThreshold())
+                .slowCallRateThreshold(properties.getSlowCallRateThreshold())
+                .waitDurationInOpenState(properties.getWaitDurationInOpenState())
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                .permittedNumberOfCallsInHalfOpenState(properties.getPermittedNumberOfCallsInHalfOpenState())
+                // 벌크헤드 거절은 Product Service 장애가 아니므로 실패율에 넣지 않음
+                .ignoreExceptions(BulkheadFullException.class)
+                .build();
+
+        CircuitBreaker circuitBreaker = productServiceCircuitBreakerRegistry.circuitBreaker(CIRCUIT_BREAKER_NAME, config);
+        circuitBreaker.getEventPublisher().onStateTransition(event ->
+                log.warn("Product Service 서킷 상태 변경: {}", event.getStateTransition()));
+        return circuitBreaker;
+    }
+
+    @Bean
+    public Bulkhead productStatsBulkhead(BulkheadRegistry productServiceBulkheadRegistry,
+                                         ProductServiceResilienceProperties properties) {
+        return productServiceBulkheadRegistry.bulkhead(STATS_BULKHEAD_NAME,
+                bulkheadConfig(properties.getStatsMaxConcurrentCalls()));
+    }
+
+    @Bean
+    public Bulkhead productListBulkhead(BulkheadRegistry productServiceBulkheadRegistry,
+                                        ProductServiceResilienceProperties properties) {
+        return productServiceBulkheadRegistry.bulkhead(PRODUCTS_BULKHEAD_NAME,
+                bulkheadConfig(properties.getProductsMaxConcurrentCalls()));
+    }
+
+    private static BulkheadConfig bulkheadConfig(int maxConcurrentCalls) {
+        return BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                // 자리가 없으면 기다리지 않고 바로 기본값으로 대체
+                .maxWaitDuration(Duration.ZERO)
+                .build();
+    }
+}
@@ -0,0 +1,33 @@
+package com.minicarrot.user.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Product Service 호출 서킷 브레이커/벌크헤드 설정
+ * - 서킷 브레이커는 Product Service 전체에 하나, 벌크헤드는 엔드포인트별
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.product-service.resilience")
+public class ProductServiceResilienceProperties {
+    // 최근 호출 중 실패(타임아웃 포함) 비율이 이 값(%) 이상이면 서킷 오픈
+    private float failureRateThreshold = 50;
+    // 실패율 계산에 쓰는 최근 호출 수
+    private int slidingWindowSize = 20;
+    // 이 수만큼 호출이 쌓이기 전에는 실패율을 판단하지 않음
+    private int minimumNumberOfCalls = 10;
+    // 느린 호출 기준 - 느린 호출 비율도 실패율처럼 서킷 오픈 조건
+    private Duration slowCallDurationThreshold = Duration.ofSeconds(2);
+    private float slowCallRateThreshold = 80;
+    // 오픈 상태 유지 시간 (이후 half-open으로 전환해 일부 호출로 복구 확인)
+    private Duration waitDurationInOpenState = Duration.ofSeconds(10);
+    // half-open 상태에서 허용하는 시험 호출 수
+    private int permittedNumberOfCallsInHalfOpenState = 3;
+    // 엔드포인트별 동시 호출 상한 (초과 시 대기 없이 기본값으로 대체)
+    private int statsMaxConcurrentCalls = 20;
+    private int productsMaxConcurrentCalls = 10;
+}
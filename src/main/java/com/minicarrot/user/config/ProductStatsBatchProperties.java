@@ -0,0 +1,30 @@
+package com.minicarrot.user.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 사용자별 상품 통계 일괄 조회 설정
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.product-service.stats-batch")
+public class ProductStatsBatchProperties {
+    // 개별 통계 요청을 모으는 시간 - 이 시간 동안 들어온 요청은 한 번의 일괄 호출로 처리
+    private Duration window = Duration.ofMillis(10);
+    // 한 번에 조회할 최대 사용자 수 (도달하면 window를 기다리지 않고 바로 호출)
+    private int maxBatchSize = 100;
+    // Product Service 일괄 조회 API - 404/405/415/501 응답이면 이후로는 사용자별 병렬 호출로 대체
+    private String bulkPath = "/api/products/stats/batch";
+    // 사용자별 병렬 호출 시 동시 호출 수 상한
+    private int fanOutConcurrency = 8;
+    // 일괄 조회 전체 타임아웃
+    private Duration timeout = Duration.ofSeconds(2);
+    // 일괄 통계 API(/api/users/stats:batch) 호출을 허용할 사용자 ID (비어 있으면 인증된 사용자 모두 허용)
+    private Set<Long> allowedCallerIds = new HashSet<>();
+}
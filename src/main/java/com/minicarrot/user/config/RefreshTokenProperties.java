@@ -0,0 +1,20 @@
+package com.minicarrot.user.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 리프레시 토큰 설정
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "jwt.refresh")
+public class RefreshTokenProperties {
+    // 리프레시 토큰 수명 (회전할 때마다 새로 시작)
+    private Duration ttl = Duration.ofDays(14);
+    // 만료된 리프레시 토큰 삭제 주기
+    private Duration cleanupInterval = Duration.ofHours(1);
+}
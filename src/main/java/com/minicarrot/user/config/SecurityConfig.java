@@ -1,14 +1,17 @@
 package com.minicarrot.user.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minicarrot.user.security.JwtAuthenticationFilter;
+import com.minicarrot.user.security.ServiceTokenFilter;
+import com.minicarrot.user.service.JwtCacheService;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -20,11 +23,6 @@ import java.util.Arrays;
 @EnableJpaAuditing
 public class SecurityConfig {
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
-
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
@@ -39,7 +37,8 @@ public class SecurityConfig {
     }
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, JwtCacheService jwtCacheService,
+                                           ProductEventProperties productEventProperties, ObjectMapper objectMapper) throws Exception {
         http
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .csrf(csrf -> csrf.disable())
@@ -50,7 +49,11 @@ public class SecurityConfig {
                 .requestMatchers("/h2-console/**").permitAll()
                 .anyRequest().permitAll()
             )
-            .headers(headers -> headers.frameOptions(frameOptions -> frameOptions.disable()));
+            .headers(headers -> headers.frameOptions(frameOptions -> frameOptions.disable()))
+            // 상품 이벤트(/api/events/**)는 Product Service만 호출 가능 - 공유 비밀 확인
+            .addFilterBefore(new ServiceTokenFilter(productEventProperties, objectMapper), UsernamePasswordAuthenticationFilter.class)
+            // 요청당 한 번 토큰을 해석하여 SecurityContext에 사용자 정보 저장
+            .addFilterBefore(new JwtAuthenticationFilter(jwtCacheService), UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
@@ -0,0 +1,26 @@
+package com.minicarrot.user.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 토큰 폐기 목록 설정
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "jwt.revocation")
+public class TokenRevocationProperties {
+    // 블룸 필터 설계 용량 (만료 전 폐기 토큰 수)
+    private long expectedRevocations = 100_000;
+    // 블룸 필터 목표 오탐률
+    private double falsePositiveRate = 0.01;
+    // 다른 인스턴스에서 추가된 폐기 목록 동기화 주기
+    private Duration syncInterval = Duration.ofSeconds(30);
+    // 만료된 폐기 항목을 걷어내기 위한 필터 전체 재생성 주기
+    private Duration rebuildInterval = Duration.ofHours(1);
+    // DB 장애로 폐기 여부를 확인할 수 없을 때 true면 요청 거절(503), false면 폐기되지 않은 것으로 보고 허용
+    private boolean failClosed = true;
+}
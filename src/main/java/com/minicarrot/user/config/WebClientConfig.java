@@ -0,0 +1,57 @@
+package com.minicarrot.user.config;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Product Service 논블로킹 호출용 WebClient
+ * - Netty 커넥션 풀 하나를 공유 (reactor.netty.connection.provider.* 메트릭 노출)
+ * - 호출 대기 중에 스레드를 점유하지 않음
+ * - Boot의 WebClient.Builder를 사용하여 관측(observation)과 애플리케이션 ObjectMapper 코덱을 그대로 적용
+ * - 응답 본문 메모리 버퍼 상한은 max-in-memory-size로 명시 (기본 256KB로는 큰 응답이 실패)
+ */
+@Configuration
+public class WebClientConfig {
+
+    private static final String POOL_NAME = "product-service";
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider productServiceConnectionProvider(ProductServiceHttpProperties properties) {
+        return ConnectionProvider.builder(POOL_NAME)
+                .maxConnections(properties.getMaxConnections())
+                .pendingAcquireMaxCount(properties.getMaxPendingAcquires())
+                .pendingAcquireTimeout(properties.getConnectionRequestTimeout())
+                .maxIdleTime(properties.getKeepAlive())
+                .evictInBackground(properties.getIdleEvictTimeout())
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    public WebClient productServiceWebClient(WebClient.Builder webClientBuilder,
+                                             ConnectionProvider productServiceConnectionProvider,
+                                             ProductServiceHttpProperties properties,
+                                             @Value("${app.product-service.url:http://product-service:8082}") String productServiceUrl) {
+        HttpClient httpClient = HttpClient.create(productServiceConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getConnectTimeout().toMillis())
+                .responseTimeout(properties.getResponseTimeout())
+                .protocol(properties.isHttp2()
+                        ? new HttpProtocol[]{HttpProtocol.H2C, HttpProtocol.HTTP11}
+                        : new HttpProtocol[]{HttpProtocol.HTTP11});
+
+        // Boot가 주입하는 빌더는 프로토타입 빈이므로 다른 WebClient 설정에 영향 없음
+        return webClientBuilder
+                .baseUrl(productServiceUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(codecs -> codecs.defaultCodecs()
+                        .maxInMemorySize((int) properties.getMaxInMemorySize().toBytes()))
+                .build();
+    }
+}
@@ -0,0 +1,32 @@
+package com.minicarrot.user.controller;
+
+import com.minicarrot.user.util.JwtKeyHolder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+/**
+ * JWKS 공개 엔드포인트
+ * - 상품 서비스/게이트웨이가 네트워크 왕복 없이 토큰을 직접 검증하도록 공개키 제공
+ * - 미리 직렬화된 바이트 배열을 그대로 응답
+ */
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+
+    private static final Duration JWKS_MAX_AGE = Duration.ofMinutes(5);
+
+    private final JwtKeyHolder jwtKeyHolder;
+
+    @GetMapping(value = "/.well-known/jwks.json", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getJwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(JWKS_MAX_AGE).cachePublic())
+                .body(jwtKeyHolder.getJwks());
+    }
+}
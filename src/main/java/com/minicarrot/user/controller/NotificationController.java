@@ -81,6 +81,13 @@ public class NotificationController {
      * 특정 사용자에게 실시간 알림 전송
      */
     public void sendNotificationToUser(Long userId, String eventType, Object data) {
+        sendNotificationToUser(userId, eventType, data, String.valueOf(System.currentTimeMillis()));
+    }
+
+    /**
+     * 특정 사용자에게 실시간 알림 전송 - 이벤트 ID 지정 (순서 판별용 시퀀스 등)
+     */
+    public void sendNotificationToUser(Long userId, String eventType, Object data, String eventId) {
         SseEmitter emitter = userConnections.get(userId);
         
         if (emitter != null) {
@@ -88,7 +95,7 @@ public class NotificationController {
                 emitter.send(SseEmitter.event()
                     .name(eventType)
                     .data(data)
-                    .id(String.valueOf(System.currentTimeMillis())));
+                    .id(eventId));
                     
                 log.info("📤 실시간 알림 전송 성공: userId={}, eventType={}", userId, eventType);
             } catch (Exception e) {
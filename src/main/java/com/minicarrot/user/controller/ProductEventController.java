@@ -1,9 +1,14 @@
 package com.minicarrot.user.controller;
 
 import com.minicarrot.user.common.ApiResponse;
+import com.minicarrot.user.common.Constants.ErrorMessage;
 import com.minicarrot.user.controller.NotificationController;
+import com.minicarrot.user.dto.ProductSummaryDto;
+import com.minicarrot.user.service.AsyncDashboardService;
+import com.minicarrot.user.service.ProductSellerIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -17,12 +22,14 @@ import java.util.Map;
 public class ProductEventController {
 
     private final NotificationController notificationController;
+    private final ProductSellerIndex productSellerIndex;
+    private final AsyncDashboardService asyncDashboardService;
 
     /**
      * 상품 등록 이벤트 수신 (Product Service에서 호출)
      */
     @PostMapping("/product/registered")
-    public ResponseEntity<ApiResponse<Void>> onProductRegistered(@RequestBody Map<String, Object> eventData) {
+    public ResponseEntity<ApiResponse<?>> onProductRegistered(@RequestBody Map<String, Object> eventData) {
         try {
             Long userId = ((Number) eventData.get("userId")).longValue();
             String productName = (String) eventData.get("productName");
@@ -30,6 +37,23 @@ public class ProductEventController {
             
             log.info("상품 등록 이벤트 수신: userId={}, productId={}, productName={}", userId, productId, productName);
             
+            boolean applied = applyOnce(eventKey(eventData, "registered:" + productId), () -> {
+                // 판매자별 상품 인덱스 갱신
+                productSellerIndex.onProductRegistered(userId, productId, productName);
+                
+                // 대시보드 통계 증분 반영
+                asyncDashboardService.onProductRegistered(userId, ProductSummaryDto.builder()
+                    .productId(productId)
+                    .title(productName)
+                    .sellerId(userId)
+                    .status("AVAILABLE")
+                    .build());
+            });
+            if (!applied) {
+                log.info("이미 처리된 상품 등록 이벤트: productId={}", productId);
+                return ResponseEntity.ok(ApiResponse.success("이벤트 처리 완료", null));
+            }
+            
             // 실시간 알림 전송
             Map<String, Object> notification = Map.of(
                 "type", "product_registered",
@@ -47,8 +71,7 @@ public class ProductEventController {
             return ResponseEntity.ok(ApiResponse.success("상품 등록 알림이 전송되었습니다.", null));
             
         } catch (Exception e) {
-            log.error("상품 등록 이벤트 처리 실패: error={}", e.getMessage(), e);
-            return ResponseEntity.ok(ApiResponse.success("이벤트 처리 완료", null));
+            return failure("상품 등록", e);
         }
     }
 
@@ -56,7 +79,7 @@ public class ProductEventController {
      * 상품 구매 이벤트 수신 (Product Service에서 호출)
      */
     @PostMapping("/product/purchased")
-    public ResponseEntity<ApiResponse<Void>> onProductPurchased(@RequestBody Map<String, Object> eventData) {
+    public ResponseEntity<ApiResponse<?>> onProductPurchased(@RequestBody Map<String, Object> eventData) {
         try {
             Long sellerId = ((Number) eventData.get("sellerId")).longValue();
             Long buyerId = ((Number) eventData.get("buyerId")).longValue();
@@ -67,6 +90,18 @@ public class ProductEventController {
             log.info("상품 구매 이벤트 수신: sellerId={}, buyerId={}, productId={}, productName={}", 
                 sellerId, buyerId, productId, productName);
             
+            boolean applied = applyOnce(eventKey(eventData, "purchased:" + productId), () -> {
+                // 판매자별 상품 인덱스 갱신
+                productSellerIndex.onProductPurchased(sellerId, productId);
+                
+                // 판매자/구매자 대시보드 통계 증분 반영
+                asyncDashboardService.onProductPurchased(sellerId, buyerId, productId, price);
+            });
+            if (!applied) {
+                log.info("이미 처리된 상품 구매 이벤트: productId={}", productId);
+                return ResponseEntity.ok(ApiResponse.success("이벤트 처리 완료", null));
+            }
+            
             // 판매자 알림
             Map<String, Object> sellerNotification = Map.of(
                 "type", "product_sold",
@@ -97,8 +132,7 @@ public class ProductEventController {
             return ResponseEntity.ok(ApiResponse.success("구매 알림이 전송되었습니다.", null));
             
         } catch (Exception e) {
-            log.error("상품 구매 이벤트 처리 실패: error={}", e.getMessage(), e);
-            return ResponseEntity.ok(ApiResponse.success("이벤트 처리 완료", null));
+            return failure("상품 구매", e);
         }
     }
 
@@ -106,7 +140,7 @@ public class ProductEventController {
      * 대시보드 새로고침 이벤트 (Product Service에서 호출)
      */
     @PostMapping("/dashboard/refresh")
-    public ResponseEntity<ApiResponse<Void>> onDashboardRefresh(@RequestBody Map<String, Object> eventData) {
+    public ResponseEntity<ApiResponse<?>> onDashboardRefresh(@RequestBody Map<String, Object> eventData) {
         try {
             Long userId = ((Number) eventData.get("userId")).longValue();
             String eventType = (String) eventData.getOrDefault("eventType", "dashboard_update");
@@ -118,8 +152,7 @@ public class ProductEventController {
             return ResponseEntity.ok(ApiResponse.success("대시보드 새로고침 알림이 전송되었습니다.", null));
             
         } catch (Exception e) {
-            log.error("대시보드 새로고침 이벤트 처리 실패: error={}", e.getMessage(), e);
-            return ResponseEntity.ok(ApiResponse.success("이벤트 처리 완료", null));
+            return failure("대시보드 새로고침", e);
         }
     }
 
@@ -148,7 +181,7 @@ public class ProductEventController {
      * 상품 상태 변경 이벤트 (판매중 -> 판매완료 등)
      */
     @PostMapping("/product/status-changed")
-    public ResponseEntity<ApiResponse<Void>> onProductStatusChanged(@RequestBody Map<String, Object> eventData) {
+    public ResponseEntity<ApiResponse<?>> onProductStatusChanged(@RequestBody Map<String, Object> eventData) {
         try {
             Long userId = ((Number) eventData.get("userId")).longValue();
             String productName = (String) eventData.get("productName");
@@ -158,6 +191,19 @@ public class ProductEventController {
             log.info("상품 상태 변경 이벤트 수신: userId={}, productName={}, {}→{}", 
                 userId, productName, oldStatus, newStatus);
             
+            // 판매자별 상품 인덱스 갱신 (productId가 오지 않으면 상품명으로 식별)
+            Long productId = eventData.get("productId") instanceof Number id ? id.longValue() : null;
+            
+            // 상태 변경은 자연 키가 없으므로 eventId가 있을 때만 중복 확인
+            boolean applied = applyOnce(eventKey(eventData, null), () -> {
+                productSellerIndex.onProductStatusChanged(userId, productId, productName, newStatus);
+                asyncDashboardService.onProductStatusChanged(userId, productId, productName, newStatus);
+            });
+            if (!applied) {
+                log.info("이미 처리된 상품 상태 변경 이벤트: eventId={}", eventData.get("eventId"));
+                return ResponseEntity.ok(ApiResponse.success("이벤트 처리 완료", null));
+            }
+            
             String statusMessage = getStatusChangeMessage(oldStatus, newStatus);
             
             Map<String, Object> notification = Map.of(
@@ -175,9 +221,46 @@ public class ProductEventController {
             return ResponseEntity.ok(ApiResponse.success("상품 상태 변경 알림이 전송되었습니다.", null));
             
         } catch (Exception e) {
-            log.error("상품 상태 변경 이벤트 처리 실패: error={}", e.getMessage(), e);
-            return ResponseEntity.ok(ApiResponse.success("이벤트 처리 완료", null));
+            return failure("상품 상태 변경", e);
+        }
+    }
+
+    /**
+     * 처리 표시 후 반영 - 이미 처리된 이벤트면 false
+     * - 반영 중 실패하면 표시를 지워 재전송된 이벤트가 다시 반영되도록 함
+     */
+    private boolean applyOnce(String eventKey, Runnable apply) {
+        if (!asyncDashboardService.markEventProcessed(eventKey)) {
+            return false;
+        }
+        try {
+            apply.run();
+            return true;
+        } catch (RuntimeException e) {
+            asyncDashboardService.unmarkEventProcessed(eventKey);
+            throw new IllegalStateException("이벤트 반영 실패: key=" + eventKey, e);
+        }
+    }
+
+    /**
+     * 처리 실패 응답 - 형식 오류는 다시 보내도 같으므로 400, 반영 실패는 Product Service가 재전송하도록 500
+     */
+    private static ResponseEntity<ApiResponse<?>> failure(String event, Exception e) {
+        if (e instanceof NullPointerException || e instanceof ClassCastException) {
+            log.warn("{} 이벤트 형식 오류: error={}", event, e.getMessage());
+            return ResponseEntity.badRequest().body(ApiResponse.error(ErrorMessage.INVALID_EVENT));
         }
+        log.error("{} 이벤트 처리 실패: error={}", event, e.getMessage(), e);
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(ApiResponse.error(ErrorMessage.EVENT_PROCESSING_FAILED));
+    }
+
+    /**
+     * 이벤트 중복 확인 키 - Product Service가 보낸 eventId 우선, 없으면 이벤트별 자연 키
+     */
+    private static String eventKey(Map<String, Object> eventData, String fallback) {
+        Object eventId = eventData.get("eventId");
+        return eventId != null ? "event:" + eventId : fallback;
     }
 
     /**
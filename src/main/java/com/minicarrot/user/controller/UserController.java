@@ -1,8 +1,13 @@
 package com.minicarrot.user.controller;
 
 import com.minicarrot.user.common.ApiResponse;
+import com.minicarrot.user.common.AuthenticationFailedException;
 import com.minicarrot.user.common.Constants.ErrorMessage;
 import com.minicarrot.user.common.Constants.SuccessMessage;
+import com.minicarrot.user.common.RateLimitExceededException;
+import com.minicarrot.user.common.ServiceOverloadedException;
+import com.minicarrot.user.config.ProductStatsBatchProperties;
+import com.minicarrot.user.dto.DashboardResponse;
 import com.minicarrot.user.dto.TokenResponse;
 import com.minicarrot.user.dto.UserLoginRequest;
 import com.minicarrot.user.dto.UserRegisterRequest;
@@ -10,22 +15,37 @@ import com.minicarrot.user.dto.UserResponse;
 import com.minicarrot.user.dto.NicknameChangeRequest;
 import com.minicarrot.user.dto.PasswordChangeRequest;
 import com.minicarrot.user.dto.ProductStatsDto;
+import com.minicarrot.user.dto.ProductSummaryDto;
+import com.minicarrot.user.dto.RefreshTokenRequest;
+import com.minicarrot.user.dto.UserStatsBatchRequest;
+import com.minicarrot.user.security.CurrentUser;
+import com.minicarrot.user.security.LoginRateLimiter;
 import com.minicarrot.user.service.AsyncDashboardService;
+import com.minicarrot.user.service.ProductStatsBatcher;
 import com.minicarrot.user.service.UserService;
 import com.minicarrot.user.service.ProductServiceClient;
 import com.minicarrot.user.service.JwtCacheService;
+import com.minicarrot.user.util.PreSerializedJson;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.util.DigestUtils;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @RestController
@@ -38,6 +58,9 @@ public class UserController {
     private final ProductServiceClient productServiceClient;
     private final JwtCacheService jwtCacheService;
     private final AsyncDashboardService asyncDashboardService;
+    private final LoginRateLimiter loginRateLimiter;
+    private final ProductStatsBatcher productStatsBatcher;
+    private final ProductStatsBatchProperties productStatsBatchProperties;
 
     @GetMapping("/health")
     public ResponseEntity<ApiResponse<Map<String, String>>> health() {
@@ -50,6 +73,7 @@ public class UserController {
         JwtCacheService.CacheStats cacheStats = jwtCacheService.getCacheStats();
         healthInfo.put("cache_total", String.valueOf(cacheStats.getTotalEntries()));
         healthInfo.put("cache_active", String.valueOf(cacheStats.getActiveEntries()));
+        healthInfo.put("cache_hit_rate", String.format("%.2f", cacheStats.getHitRate()));
         
         return ResponseEntity.ok(ApiResponse.success("서비스가 정상 작동중입니다.", healthInfo));
     }
@@ -62,18 +86,36 @@ public class UserController {
     }
 
     @PostMapping("/login")
-    public ResponseEntity<ApiResponse<TokenResponse>> login(@Valid @RequestBody UserLoginRequest request) {
+    public ResponseEntity<ApiResponse<TokenResponse>> login(@Valid @RequestBody UserLoginRequest request,
+                                                            HttpServletRequest httpRequest) {
         log.info("로그인 요청: email={}", request.getEmail());
+        // DB 조회와 비밀번호 해시 전에 시도 횟수 제한
+        loginRateLimiter.checkLogin(httpRequest, request.getEmail());
         TokenResponse tokenResponse = userService.login(request);
         return ResponseEntity.ok(ApiResponse.success(SuccessMessage.LOGIN_SUCCESS, tokenResponse));
     }
 
+    @PostMapping("/token/refresh")
+    public ResponseEntity<ApiResponse<TokenResponse>> refreshToken(@Valid @RequestBody RefreshTokenRequest request) {
+        log.info("토큰 재발급 요청");
+        TokenResponse tokenResponse = userService.refresh(request.getRefreshToken());
+        return ResponseEntity.ok(ApiResponse.success(SuccessMessage.TOKEN_REFRESHED, tokenResponse));
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<ApiResponse<Void>> logout(
+            @RequestHeader("Authorization") String token,
+            @RequestBody(required = false) RefreshTokenRequest request) {
+        log.info("로그아웃 요청");
+        userService.logout(token, request != null ? request.getRefreshToken() : null);
+        return ResponseEntity.ok(ApiResponse.success(SuccessMessage.LOGOUT_SUCCESS, null));
+    }
+
     @GetMapping("/profile")
-    public ResponseEntity<ApiResponse<UserResponse>> getProfile(@RequestHeader("Authorization") String token) {
+    public ResponseEntity<ApiResponse<UserResponse>> getProfile(@CurrentUser UserResponse response) {
         log.info("프로필 조회 요청");
         
-        // 캐시된 토큰 검증 사용
-        UserResponse response = jwtCacheService.getUserFromToken(token);
+        // 필터에서 인증된 사용자 정보 사용
         return ResponseEntity.ok(ApiResponse.success(SuccessMessage.PROFILE_RETRIEVED, response));
     }
 
@@ -100,15 +142,12 @@ public class UserController {
 
     @PutMapping("/nickname")
     public ResponseEntity<ApiResponse<UserResponse>> changeNickname(
-            @RequestHeader("Authorization") String token,
+            @CurrentUser UserResponse currentUser,
             @Valid @RequestBody NicknameChangeRequest request) {
         log.info("닉네임 변경 요청: newNickname={}", request.getNewNickname());
         
-        // 캐시된 토큰 검증으로 사용자 정보 조회
-        UserResponse currentUser = jwtCacheService.getUserFromToken(token);
-        
         // 실제 닉네임 변경은 UserService에서 처리 (DB 업데이트 필요)
-        UserResponse response = userService.changeNickname(token, request.getNewNickname());
+        UserResponse response = userService.changeNickname(currentUser.getUserId(), request.getNewNickname());
         
         // 캐시 무효화 (닉네임이 변경되었으므로)
         jwtCacheService.invalidateUserCache(currentUser.getUserId());
@@ -118,15 +157,12 @@ public class UserController {
 
     @PutMapping("/password")
     public ResponseEntity<ApiResponse<Void>> changePassword(
-            @RequestHeader("Authorization") String token,
+            @CurrentUser UserResponse currentUser,
             @Valid @RequestBody PasswordChangeRequest request) {
         log.info("비밀번호 변경 요청");
         
-        // 캐시된 토큰 검증으로 사용자 정보 조회
-        UserResponse currentUser = jwtCacheService.getUserFromToken(token);
-        
         // 실제 비밀번호 변경은 UserService에서 처리 (DB 업데이트 및 현재 비밀번호 검증 필요)
-        userService.changePassword(token, request.getCurrentPassword(), request.getNewPassword());
+        userService.changePassword(currentUser.getUserId(), request.getCurrentPassword(), request.getNewPassword());
         
         // 캐시 무효화 (보안상 비밀번호 변경 시 캐시 제거)
         jwtCacheService.invalidateUserCache(currentUser.getUserId());
@@ -136,15 +172,12 @@ public class UserController {
 
     // 마이페이지 관련 API들 - 성능 최적화 적용
     @GetMapping("/products/mine")
-    public ResponseEntity<ApiResponse<Object>> getMyProducts(@RequestHeader("Authorization") String token) {
+    public ResponseEntity<ApiResponse<Object>> getMyProducts(@CurrentUser UserResponse profile) {
         long startTime = System.currentTimeMillis();
         log.info("내가 등록한 상품 조회 요청");
         
         try {
-            // 🚀 캐시된 토큰 검증 사용 (DB 조회 없이 토큰에서 직접 추출)
-            UserResponse profile = jwtCacheService.getUserFromToken(token);
-            
-            List<Map<String, Object>> products = productServiceClient.getUserProducts(profile.getUserId());
+            List<ProductSummaryDto> products = productServiceClient.getUserProducts(profile.getUserId());
             
             long duration = System.currentTimeMillis() - startTime;
             log.info("내 상품 조회 성공: userId={}, 상품수={}개, 소요시간={}ms", 
@@ -161,15 +194,28 @@ public class UserController {
         }
     }
 
+    // 여러 사용자 통계 일괄 조회 - 동시에 들어온 다른 요청과 합쳐 Product Service를 한 번만 호출
+    // - 요청 하나가 Product Service 호출 여러 건으로 불어날 수 있으므로 인증된(허용된) 호출자만 사용
+    @PostMapping("/stats:batch")
+    public CompletableFuture<ResponseEntity<ApiResponse<Map<Long, ProductStatsDto>>>> getUserStatsBatch(
+            @CurrentUser UserResponse caller,
+            @Valid @RequestBody UserStatsBatchRequest request) {
+        Set<Long> allowedCallerIds = productStatsBatchProperties.getAllowedCallerIds();
+        if (!allowedCallerIds.isEmpty() && !allowedCallerIds.contains(caller.getUserId())) {
+            throw new AccessDeniedException("일괄 통계 조회 권한이 없습니다.");
+        }
+        log.info("사용자 통계 일괄 조회 요청: callerId={}, users={}", caller.getUserId(), request.getUserIds().size());
+
+        return productStatsBatcher.loadAll(request.getUserIds())
+                .thenApply(stats -> ResponseEntity.ok(ApiResponse.success("사용자 통계 일괄 조회가 완료되었습니다.", stats)));
+    }
+
     @GetMapping("/products/purchased")
-    public ResponseEntity<ApiResponse<Object>> getPurchasedProducts(@RequestHeader("Authorization") String token) {
+    public ResponseEntity<ApiResponse<Object>> getPurchasedProducts(@CurrentUser UserResponse profile) {
         long startTime = System.currentTimeMillis();
         log.info("구매한 상품 조회 요청");
         
         try {
-            // 🚀 캐시된 토큰 검증 사용 (DB 조회 없이 토큰에서 직접 추출)
-            UserResponse profile = jwtCacheService.getUserFromToken(token);
-            
             List<Map<String, Object>> products = productServiceClient.getUserPurchases(profile.getUserId());
             
             long duration = System.currentTimeMillis() - startTime;
@@ -188,14 +234,11 @@ public class UserController {
     }
 
     @GetMapping("/products/liked")
-    public ResponseEntity<ApiResponse<Object>> getLikedProducts(@RequestHeader("Authorization") String token) {
+    public ResponseEntity<ApiResponse<Object>> getLikedProducts(@CurrentUser UserResponse profile) {
         long startTime = System.currentTimeMillis();
         log.info("찜한 상품 조회 요청");
         
         try {
-            // 🚀 캐시된 토큰 검증 사용
-            UserResponse profile = jwtCacheService.getUserFromToken(token);
-            
             long duration = System.currentTimeMillis() - startTime;
             log.info("찜한 상품 조회 완료: userId={}, 소요시간={}ms", profile.getUserId(), duration);
             
@@ -212,100 +255,91 @@ public class UserController {
     }
 
     @GetMapping("/dashboard")
-    public ResponseEntity<ApiResponse<Object>> getUserDashboard(@RequestHeader("Authorization") String token) {
+    public ResponseEntity<ApiResponse<DashboardResponse>> getUserDashboard(
+            @CurrentUser UserResponse profile, WebRequest webRequest) {
         long startTime = System.currentTimeMillis();
         log.info("🚀 사용자 대시보드 조회 요청 (빠른 응답 모드)");
         
         try {
-            // 🚀 캐시된 토큰 검증 사용 (DB 조회 없이 토큰에서 직접 추출)
-            UserResponse profile = jwtCacheService.getUserFromToken(token);
+            // 🚀 비동기 대시보드 서비스 사용 (즉시 응답 + 백그라운드 로딩), 데이터는 미리 직렬화된 JSON
+            PreSerializedJson dashboardData = asyncDashboardService.getDashboardData(profile.getUserId());
             
-            // 🚀 비동기 대시보드 서비스 사용 (즉시 응답 + 백그라운드 로딩)
-            Map<String, Object> dashboardData = asyncDashboardService.getDashboardData(profile.getUserId());
+            // 클라이언트가 가진 데이터/프로필과 같으면 본문 없이 응답 (If-None-Match 비교와 304 응답은 Spring이 처리)
+            String etag = dashboardEtag(profile, dashboardData);
+            if (webRequest != null && webRequest.checkNotModified(etag)) {
+                return null;
+            }
             
             long duration = System.currentTimeMillis() - startTime;
             
-            Map<String, Object> dashboard = Map.of(
-                "profile", profile,
-                "data", dashboardData,
-                "lastUpdated", System.currentTimeMillis(),
-                "responseTime", duration + "ms"
-            );
+            DashboardResponse dashboard = DashboardResponse.builder()
+                .profile(profile)
+                .data(dashboardData)
+                .lastUpdated(System.currentTimeMillis())
+                .responseTime(duration + "ms")
+                .build();
             
             log.info("✅ 대시보드 조회 성공 (즉시 응답): userId={}, 소요시간={}ms", 
                 profile.getUserId(), duration);
             
-            return ResponseEntity.ok(ApiResponse.success("사용자 대시보드 정보입니다.", dashboard));
+            return ResponseEntity.ok()
+                .eTag(etag)
+                .body(ApiResponse.success("사용자 대시보드 정보입니다.", dashboard));
             
         } catch (Exception e) {
             long duration = System.currentTimeMillis() - startTime;
             log.error("❌ 대시보드 조회 실패: error={}, 소요시간={}ms", e.getMessage(), duration);
             
-            try {
-                // 에러 발생 시에도 캐시된 토큰 검증 사용
-                UserResponse profile = jwtCacheService.getUserFromToken(token);
-                Map<String, Object> dashboard = Map.of(
-                    "profile", profile,
-                    "data", Map.of(
-                        "stats", Map.of(
-                            "registeredProducts", 0,
-                            "purchasedProducts", 0,
-                            "soldProducts", 0,
-                            "totalTransactions", 0,
-                            "totalSales", 0.0,
-                            "totalPurchases", 0.0
-                        ),
-                        "recentProducts", List.of(),
-                        "recentActivity", List.of(),
-                        "loading", false,
-                        "error", "일시적으로 통계를 불러올 수 없습니다. 잠시 후 다시 시도해주세요."
-                    ),
-                    "responseTime", duration + "ms"
-                );
-                
-                return ResponseEntity.ok(ApiResponse.success("사용자 대시보드 정보입니다.", dashboard));
-                
-            } catch (Exception tokenError) {
-                log.error("토큰 검증도 실패: error={}", tokenError.getMessage());
-                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                        .body((ApiResponse<Object>) ApiResponse.error("토큰이 유효하지 않습니다."));
-            }
+            DashboardResponse dashboard = DashboardResponse.builder()
+                .profile(profile)
+                .data(asyncDashboardService.getErrorDashboard())
+                .responseTime(duration + "ms")
+                .build();
+            
+            return ResponseEntity.ok(ApiResponse.success("사용자 대시보드 정보입니다.", dashboard));
         }
     }
 
     @GetMapping("/dashboard/refresh")
-    public ResponseEntity<ApiResponse<Object>> refreshDashboard(@RequestHeader("Authorization") String token) {
+    public ResponseEntity<ApiResponse<DashboardResponse>> refreshDashboard(@CurrentUser UserResponse profile) {
         log.info("🔄 대시보드 새로고침 요청");
         
         try {
-            UserResponse profile = jwtCacheService.getUserFromToken(token);
-            
             // 캐시된 데이터 조회
-            Map<String, Object> cachedData = asyncDashboardService.getCachedDashboardData(profile.getUserId());
+            PreSerializedJson cachedData = asyncDashboardService.getCachedDashboardData(profile.getUserId());
             
             if (cachedData != null) {
-                Map<String, Object> dashboard = Map.of(
-                    "profile", profile,
-                    "data", cachedData,
-                    "lastUpdated", System.currentTimeMillis(),
-                    "cached", true
-                );
+                DashboardResponse dashboard = DashboardResponse.builder()
+                    .profile(profile)
+                    .data(cachedData)
+                    .lastUpdated(System.currentTimeMillis())
+                    .cached(true)
+                    .build();
                 
                 log.info("✅ 대시보드 캐시 데이터 반환: userId={}", profile.getUserId());
-                return ResponseEntity.ok(ApiResponse.success("대시보드 데이터가 업데이트되었습니다.", dashboard));
+                return ResponseEntity.ok()
+                    .eTag(dashboardEtag(profile, cachedData))
+                    .body(ApiResponse.success("대시보드 데이터가 업데이트되었습니다.", dashboard));
             } else {
-                // 캐시 무효화 후 새로 로드
-                asyncDashboardService.invalidateDashboardCache(profile.getUserId());
-                return getUserDashboard(token);
+                // 로드 중이면 진행 중인 로드에 합류 (무효화하면 같은 사용자의 로드가 중복 실행됨)
+                return getUserDashboard(profile, null);
             }
             
         } catch (Exception e) {
             log.error("대시보드 새로고침 실패: error={}", e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body((ApiResponse<Object>) ApiResponse.error("대시보드 새로고침에 실패했습니다."));
+                    .body((ApiResponse<DashboardResponse>) ApiResponse.error("대시보드 새로고침에 실패했습니다."));
         }
     }
 
+    /**
+     * 대시보드 응답 ETag - 데이터 ETag에 프로필(닉네임 등)을 합쳐 프로필만 바뀐 경우에도 304로 응답하지 않음
+     */
+    private static String dashboardEtag(UserResponse profile, PreSerializedJson dashboardData) {
+        String source = dashboardData.getEtag() + '|' + profile.getUserId() + '|' + profile.getEmail() + '|' + profile.getNickname();
+        return "W/\"" + DigestUtils.md5DigestAsHex(source.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ApiResponse<?>> handleValidationExceptions(MethodArgumentNotValidException e) {
         Map<String, String> fieldErrors = new HashMap<>();
@@ -328,6 +362,35 @@ public class UserController {
                 .body(ApiResponse.error(e.getMessage()));
     }
 
+    @ExceptionHandler(AuthenticationFailedException.class)
+    public ResponseEntity<ApiResponse<?>> handleAuthenticationFailedException(AuthenticationFailedException e) {
+        log.warn("인증 실패: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body(ApiResponse.error(e.getMessage()));
+    }
+
+    @ExceptionHandler(AccessDeniedException.class)
+    public ResponseEntity<ApiResponse<?>> handleAccessDeniedException(AccessDeniedException e) {
+        log.warn("접근 거부: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(ApiResponse.error(e.getMessage()));
+    }
+
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ApiResponse<?>> handleRateLimitExceededException(RateLimitExceededException e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(ApiResponse.error(e.getMessage()));
+    }
+
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ApiResponse<?>> handleServiceOverloadedException(ServiceOverloadedException e) {
+        log.warn("처리 용량 초과로 요청 거절: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ApiResponse.error(e.getMessage()));
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiResponse<?>> handleGenericException(Exception e) {
         log.error("서버 내부 오류: {}", e.getMessage(), e);
@@ -0,0 +1,29 @@
+package com.minicarrot.user.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * 대시보드 데이터
+ * - 캐시에 저장되고 직렬화 결과도 함께 보관하므로 생성 후 변경하지 않음
+ * - 값이 없는 필드(loading, message 등)는 응답에서 제외
+ */
+@Value
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DashboardDataDto {
+    DashboardStatsDto stats;
+    List<ProductSummaryDto> recentProducts;
+    List<RecentActivityDto> recentActivity;
+    Long lastUpdated;
+    Long sequence;
+    Boolean cached;
+    Boolean loading;
+    // 로드가 끝나면 이 이름의 SSE 이벤트로 실제 데이터가 전송됨
+    String updateEvent;
+    String message;
+    String error;
+}
@@ -0,0 +1,20 @@
+package com.minicarrot.user.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.minicarrot.user.util.PreSerializedJson;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * 대시보드 응답 - data는 미리 직렬화된 JSON을 그대로 기록
+ */
+@Value
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DashboardResponse {
+    UserResponse profile;
+    PreSerializedJson data;
+    Long lastUpdated;
+    String responseTime;
+    Boolean cached;
+}
@@ -0,0 +1,37 @@
+package com.minicarrot.user.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * 대시보드 통계 (응답용)
+ */
+@Value
+@Builder
+public class DashboardStatsDto {
+
+    private static final DashboardStatsDto EMPTY = DashboardStatsDto.builder().build();
+
+    int registeredProducts;
+    int purchasedProducts;
+    int soldProducts;
+    int totalTransactions;
+    double totalSales;
+    double totalPurchases;
+
+    public static DashboardStatsDto from(ProductStatsDto stats) {
+        return DashboardStatsDto.builder()
+                .registeredProducts(stats.getRegisteredProducts())
+                .purchasedProducts(stats.getPurchasedProducts())
+                .soldProducts(stats.getSoldProducts())
+                .totalTransactions(stats.getTotalTransactions())
+                .totalSales(stats.getTotalSales())
+                .totalPurchases(stats.getTotalPurchases())
+                .build();
+    }
+
+    // 모든 값이 0인 기본 통계
+    public static DashboardStatsDto empty() {
+        return EMPTY;
+    }
+}
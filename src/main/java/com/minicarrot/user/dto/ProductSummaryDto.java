@@ -0,0 +1,39 @@
+package com.minicarrot.user.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Product Service 상품 요약
+ * - 인덱싱/목록 표시에 쓰는 필드만 타입으로 바인딩, 그 밖의 필드는 파싱 중 건너뜀 (Map으로 보관하지 않음)
+ * - 로컬 인덱스가 공유하므로 생성 후에는 변경하지 않음 (상태 변경은 toBuilder로 복사)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ProductSummaryDto {
+
+    private Long productId;
+    private String title;
+    private Long sellerId;
+    // 판매자 ID를 userId로 내려주는 응답 호환용
+    private Long userId;
+    private String status;
+    private Double price;
+
+    /**
+     * 판매자 ID - sellerId가 없으면 userId 필드 사용
+     */
+    @JsonIgnore
+    public Long resolveSellerId() {
+        return sellerId != null ? sellerId : userId;
+    }
+}
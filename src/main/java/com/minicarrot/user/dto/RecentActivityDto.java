@@ -0,0 +1,16 @@
+package com.minicarrot.user.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * 최근 활동 항목
+ */
+@Value
+@Builder
+public class RecentActivityDto {
+    String type;
+    String message;
+    Long productId;
+    long timestamp;
+}
@@ -11,5 +11,6 @@ import lombok.Builder;
 @Builder
 public class TokenResponse {
     private String token;
+    private String refreshToken;
     private UserResponse user;
 } 
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.minicarrot.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.Set;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserStatsBatchRequest {
+
+    @NotEmpty(message = "조회할 사용자 ID는 필수입니다.")
+    @Size(max = 500, message = "한 번에 최대 500명까지 조회할 수 있습니다.")
+    private Set<@NotNull Long> userIds;
+}
@@ -0,0 +1,70 @@
+package com.minicarrot.user.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리프레시 토큰 (원문은 저장하지 않고 SHA-256 해시만 저장)
+ * - 같은 로그인에서 회전된 토큰은 같은 family로 묶음
+ * - 이미 사용(회전)된 토큰이 다시 제출되면 탈취로 보고 family 전체를 폐기
+ */
+@Entity
+@Table(name = "refresh_tokens", indexes = {
+        @Index(name = "idx_refresh_tokens_family_id", columnList = "family_id"),
+        @Index(name = "idx_refresh_tokens_user_id", columnList = "user_id"),
+        @Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ToString
+public class RefreshToken {
+
+    @Id
+    @Column(name = "token_hash", length = 64)
+    private String tokenHash;
+
+    @Column(name = "family_id", nullable = false, length = 36)
+    private String familyId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "used_at")
+    private LocalDateTime usedAt;
+
+    @Column(name = "revoked", nullable = false)
+    private boolean revoked;
+
+    public static RefreshToken of(String tokenHash, String familyId, Long userId, LocalDateTime expiresAt) {
+        RefreshToken refreshToken = new RefreshToken();
+        refreshToken.tokenHash = tokenHash;
+        refreshToken.familyId = familyId;
+        refreshToken.userId = userId;
+        refreshToken.expiresAt = expiresAt;
+        refreshToken.createdAt = LocalDateTime.now();
+        return refreshToken;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    /**
+     * 이미 회전된 토큰 - 다시 제출되면 재사용 (폐기 여부와 무관)
+     */
+    public boolean isRotated() {
+        return usedAt != null;
+    }
+
+    public void markUsed() {
+        this.usedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,43 @@
+package com.minicarrot.user.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 만료 전에 폐기된 JWT (jti 기준)
+ * - 토큰 만료 시각이 지나면 더 이상 필요 없으므로 주기적으로 삭제
+ */
+@Entity
+@Table(name = "revoked_tokens", indexes = {
+        @Index(name = "idx_revoked_tokens_expires_at", columnList = "expires_at"),
+        @Index(name = "idx_revoked_tokens_revoked_at", columnList = "revoked_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ToString
+public class RevokedToken {
+
+    @Id
+    @Column(name = "token_id", length = 64)
+    private String tokenId;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "revoked_at", nullable = false)
+    private LocalDateTime revokedAt;
+
+    public static RevokedToken of(String tokenId, Long userId, LocalDateTime expiresAt) {
+        RevokedToken revokedToken = new RevokedToken();
+        revokedToken.tokenId = tokenId;
+        revokedToken.userId = userId;
+        revokedToken.expiresAt = expiresAt;
+        revokedToken.revokedAt = LocalDateTime.now();
+        return revokedToken;
+    }
+}
@@ -2,7 +2,11 @@ package com.minicarrot.user.repository;
 
 import com.minicarrot.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -14,4 +18,15 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByEmail(String email);
     boolean existsByNickname(String nickname);
     List<User> findByEmailContainingOrNicknameContaining(String email, String nickname);
+
+    /**
+     * 해시를 읽은 뒤 다른 요청이 바꾸지 않았을 때만 교체 (해시 계산은 트랜잭션 밖에서 수행)
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update User u set u.password = :newPassword, u.updatedAt = CURRENT_TIMESTAMP " +
+            "where u.userId = :userId and u.password = :expectedPassword")
+    int updatePasswordIfUnchanged(@Param("userId") Long userId,
+                                  @Param("expectedPassword") String expectedPassword,
+                                  @Param("newPassword") String newPassword);
 } 
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.minicarrot.user.security;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * JwtAuthenticationFilter가 인증한 현재 사용자(UserResponse)를 컨트롤러 인자로 주입
+ * - required=true 이면 인증되지 않은 요청은 AuthenticationFailedException(401)으로 처리
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CurrentUser {
+
+    boolean required() default true;
+}
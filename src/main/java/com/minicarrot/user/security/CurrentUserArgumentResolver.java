@@ -0,0 +1,43 @@
+package com.minicarrot.user.security;
+
+import com.minicarrot.user.common.AuthenticationFailedException;
+import com.minicarrot.user.common.Constants.ErrorMessage;
+import com.minicarrot.user.common.ServiceOverloadedException;
+import com.minicarrot.user.dto.UserResponse;
+import org.springframework.core.MethodParameter;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * @CurrentUser UserResponse 인자 해석 - 필터가 저장한 요청 속성만 읽음 (토큰 재파싱 없음)
+ */
+public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(CurrentUser.class)
+                && UserResponse.class.isAssignableFrom(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        Object currentUser = webRequest.getAttribute(
+                JwtAuthenticationFilter.CURRENT_USER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+
+        CurrentUser annotation = parameter.getParameterAnnotation(CurrentUser.class);
+        if (currentUser == null && annotation != null && annotation.required()) {
+            if (webRequest.getAttribute(JwtAuthenticationFilter.AUTHENTICATION_UNAVAILABLE_ATTRIBUTE,
+                    RequestAttributes.SCOPE_REQUEST) != null) {
+                throw new ServiceOverloadedException(ErrorMessage.AUTHENTICATION_UNAVAILABLE);
+            }
+            Object error = webRequest.getAttribute(
+                    JwtAuthenticationFilter.AUTHENTICATION_ERROR_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+            throw new AuthenticationFailedException(error != null ? error.toString() : ErrorMessage.INVALID_TOKEN);
+        }
+        return currentUser;
+    }
+}
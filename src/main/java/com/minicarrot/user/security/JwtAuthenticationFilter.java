@@ -0,0 +1,62 @@
+package com.minicarrot.user.security;
+
+import com.minicarrot.user.common.ServiceOverloadedException;
+import com.minicarrot.user.dto.UserResponse;
+import com.minicarrot.user.service.JwtCacheService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 요청당 한 번 JWT 인증
+ * - Authorization 헤더의 토큰을 토큰 캐시로 한 번만 해석
+ * - 인증 결과를 SecurityContext와 요청 속성에 저장하여 컨트롤러/서비스에서 재파싱 방지
+ * - 토큰이 없거나 유효하지 않아도 요청은 그대로 통과 (접근 제어는 @CurrentUser에서 401로 처리)
+ * - DB 장애로 토큰을 확인할 수 없으면 인증 실패와 구분하여 기록 (@CurrentUser에서 503)
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    public static final String CURRENT_USER_ATTRIBUTE = JwtAuthenticationFilter.class.getName() + ".CURRENT_USER";
+    public static final String AUTHENTICATION_ERROR_ATTRIBUTE = JwtAuthenticationFilter.class.getName() + ".ERROR";
+    public static final String AUTHENTICATION_UNAVAILABLE_ATTRIBUTE = JwtAuthenticationFilter.class.getName() + ".UNAVAILABLE";
+
+    private final JwtCacheService jwtCacheService;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+
+        if (authorization != null && !authorization.isBlank()) {
+            try {
+                UserResponse currentUser = jwtCacheService.getUserFromToken(authorization);
+
+                SecurityContext context = SecurityContextHolder.createEmptyContext();
+                context.setAuthentication(UsernamePasswordAuthenticationToken.authenticated(currentUser, null, List.of()));
+                SecurityContextHolder.setContext(context);
+                request.setAttribute(CURRENT_USER_ATTRIBUTE, currentUser);
+            } catch (IllegalArgumentException e) {
+                request.setAttribute(AUTHENTICATION_ERROR_ATTRIBUTE, e.getMessage());
+            } catch (ServiceOverloadedException | DataAccessException e) {
+                log.warn("토큰 확인 불가 (일시 장애): error={}", e.getMessage());
+                request.setAttribute(AUTHENTICATION_UNAVAILABLE_ATTRIBUTE, Boolean.TRUE);
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+}
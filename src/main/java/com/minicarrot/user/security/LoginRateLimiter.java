@@ -0,0 +1,132 @@
+package com.minicarrot.user.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.minicarrot.user.common.Constants.ErrorMessage;
+import com.minicarrot.user.common.RateLimitExceededException;
+import com.minicarrot.user.config.LoginRateLimitProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로그인 시도 제한 (크리덴셜 스터핑 방어)
+ * - IP별, 이메일별 버킷을 모두 통과해야 DB 조회와 비밀번호 해시까지 진행
+ * - 버킷은 GCRA(이론적 도착 시각 하나만 저장) - CAS로 갱신하여 락 없음
+ * - 버킷 맵은 크기 상한과 유휴 만료가 있는 Caffeine 캐시
+ */
+@Slf4j
+@Component
+public class LoginRateLimiter {
+
+    private static final long NANOS_PER_MINUTE = TimeUnit.MINUTES.toNanos(1);
+
+    private final LoginRateLimitProperties properties;
+    private final Cache<String, AtomicLong> buckets;
+    private final Limit ipLimit;
+    private final Limit emailLimit;
+    private final Counter ipRejections;
+    private final Counter emailRejections;
+
+    public LoginRateLimiter(LoginRateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxKeys())
+                .expireAfterAccess(properties.getIdleTimeout())
+                .build();
+        this.ipLimit = Limit.of(properties.getIpRatePerMinute(), properties.getIpBurst());
+        this.emailLimit = Limit.of(properties.getEmailRatePerMinute(), properties.getEmailBurst());
+
+        this.ipRejections = Counter.builder("login.rate_limit.rejected")
+                .tag("key", "ip")
+                .description("로그인 시도 제한으로 거절된 요청 수")
+                .register(meterRegistry);
+        this.emailRejections = Counter.builder("login.rate_limit.rejected")
+                .tag("key", "email")
+                .description("로그인 시도 제한으로 거절된 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("login.rate_limit.buckets", buckets, Cache::estimatedSize)
+                .description("추적 중인 로그인 제한 버킷 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 로그인 시도 허용 여부 확인 - 초과 시 RateLimitExceededException
+     */
+    public void checkLogin(HttpServletRequest request, String email) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        String clientIp = resolveClientIp(request);
+
+        long ipWait = tryAcquire("ip:" + clientIp, ipLimit, now);
+        if (ipWait > 0) {
+            ipRejections.increment();
+            log.warn("로그인 시도 제한 (IP): ip={}", clientIp);
+            throw new RateLimitExceededException(ErrorMessage.TOO_MANY_LOGIN_ATTEMPTS, toRetryAfterSeconds(ipWait));
+        }
+
+        if (StringUtils.hasText(email)) {
+            long emailWait = tryAcquire("email:" + email.trim().toLowerCase(Locale.ROOT), emailLimit, now);
+            if (emailWait > 0) {
+                emailRejections.increment();
+                log.warn("로그인 시도 제한 (이메일): email={}", email);
+                throw new RateLimitExceededException(ErrorMessage.TOO_MANY_LOGIN_ATTEMPTS, toRetryAfterSeconds(emailWait));
+            }
+        }
+    }
+
+    /**
+     * GCRA - 허용되면 0, 거절되면 다시 시도할 수 있을 때까지 남은 나노초
+     */
+    private long tryAcquire(String key, Limit limit, long now) {
+        AtomicLong theoreticalArrival = buckets.get(key, k -> new AtomicLong(now));
+        while (true) {
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, now) + limit.emissionIntervalNanos();
+            long excess = next - now - limit.burstToleranceNanos();
+            if (excess > 0) {
+                return excess;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    private String resolveClientIp(HttpServletRequest request) {
+        if (properties.isTrustForwardedFor()) {
+            String forwardedFor = request.getHeader("X-Forwarded-For");
+            if (StringUtils.hasText(forwardedFor)) {
+                int comma = forwardedFor.indexOf(',');
+                return (comma >= 0 ? forwardedFor.substring(0, comma) : forwardedFor).trim();
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    private static long toRetryAfterSeconds(long waitNanos) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+    }
+
+    /**
+     * 배출 간격(요청 1건당 시간)과 순간 허용량을 나노초로 환산
+     */
+    private record Limit(long emissionIntervalNanos, long burstToleranceNanos) {
+
+        static Limit of(int ratePerMinute, int burst) {
+            long interval = NANOS_PER_MINUTE / Math.max(1, ratePerMinute);
+            return new Limit(interval, interval * Math.max(1, burst));
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.minicarrot.user.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minicarrot.user.common.ApiResponse;
+import com.minicarrot.user.common.Constants.ErrorMessage;
+import com.minicarrot.user.config.ProductEventProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * 서비스 간 이벤트 엔드포인트(/api/events/**) 인증
+ * - 요청 헤더의 공유 비밀이 설정 값과 같을 때만 통과 (상수 시간 비교)
+ * - 공유 비밀이 설정되지 않았으면 모든 이벤트 요청을 거절 (누구나 집계를 바꿀 수 없도록)
+ */
+@Slf4j
+public class ServiceTokenFilter extends OncePerRequestFilter {
+
+    private static final String EVENTS_PATH = "/api/events/";
+
+    private final ProductEventProperties properties;
+    private final ObjectMapper objectMapper;
+    private final byte[] expected;
+
+    public ServiceTokenFilter(ProductEventProperties properties, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        String secret = properties.getSharedSecret();
+        this.expected = secret != null && !secret.isBlank() ? secret.getBytes(StandardCharsets.UTF_8) : null;
+        if (expected == null) {
+            log.warn("상품 이벤트 공유 비밀이 설정되지 않아 /api/events 요청을 모두 거절합니다.");
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(request.getContextPath() + EVENTS_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String token = request.getHeader(properties.getHeader());
+        if (expected == null || token == null
+                || !MessageDigest.isEqual(expected, token.getBytes(StandardCharsets.UTF_8))) {
+            log.warn("서비스 인증 실패: uri={}, remote={}", request.getRequestURI(), request.getRemoteAddr());
+            response.setStatus(HttpStatus.UNAUTHORIZED.value());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            objectMapper.writeValue(response.getWriter(), ApiResponse.error(ErrorMessage.INVALID_SERVICE_TOKEN));
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+}
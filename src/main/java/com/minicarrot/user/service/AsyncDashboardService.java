@@ -1,172 +1,494 @@
 package com.minicarrot.user.service;
 
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.minicarrot.user.config.DashboardCacheProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minicarrot.user.controller.NotificationController;
+import com.minicarrot.user.dto.DashboardDataDto;
+import com.minicarrot.user.dto.DashboardStatsDto;
 import com.minicarrot.user.dto.ProductStatsDto;
-import lombok.RequiredArgsConstructor;
+import com.minicarrot.user.dto.ProductSummaryDto;
+import com.minicarrot.user.service.CacheInvalidationBus.Topic;
+import com.minicarrot.user.util.PreSerializedJson;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
 
+/**
+ * 대시보드 데이터 캐시 (stale-while-revalidate)
+ * - 미스일 때만 기본값(loading)을 응답하고, 이후에는 항상 캐시된 값을 응답
+ * - 상품 이벤트(등록/구매/상태 변경)는 캐시된 통계에 바로 반영 (이벤트 ID로 중복 반영 방지)
+ * - 이벤트는 받은 인스턴스에만 들어오므로 사용자 ID를 무효화 버스로 전파 - 다른 인스턴스는 캐시된 사용자를 재조회
+ * - soft TTL은 Product Service와의 정합성 보정 주기 - 지난 값은 그대로 응답하면서 사용자당 한 번만 백그라운드 재조회
+ * - 메모리 예산을 넘으면 오래/드물게 쓰인 항목부터 제거
+ * - 로드/갱신은 dashboardTaskExecutor에서 구독만 시작하고 응답 대기 중에는 스레드를 점유하지 않음
+ * - 동시 로드 수는 max-concurrent-loads로 제한 - 상류 부하는 요청 수가 아니라 서로 다른 사용자 수로 제한
+ * - 로드가 끝나면 결과를 SSE dashboard_data 이벤트로 전송 (클라이언트가 새로고침 API를 폴링하지 않도록)
+ * - 캐시에는 응답 객체와 직렬화된 JSON(+ETag)을 함께 보관 - 캐시 히트는 바이트를 그대로 기록
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class AsyncDashboardService {
 
-    private final ProductServiceClient productServiceClient;
+    private static final String CACHE_NAME = "dashboard";
+    private static final String DASHBOARD_EVENT = "dashboard_data";
+
+    // 항목 고정 비용 (직렬화 결과 크기는 따로 더함)
+    private static final int ENTRY_OVERHEAD_BYTES = 1024;
+
+    private static final int RECENT_PRODUCTS = 5;
+
+    private final ReactiveProductServiceClient reactiveProductServiceClient;
+    private final ProductStatsBatcher productStatsBatcher;
+    private final Scheduler dashboardScheduler;
+    private final NotificationController notificationController;
+    private final ObjectMapper objectMapper;
+    private final CacheInvalidationBus invalidationBus;
+
+    // 로드 실패 시 응답 (내용이 고정이라 한 번만 직렬화)
+    private final PreSerializedJson errorDashboard;
+
+    // 로드 결과 순번 - 클라이언트는 이미 그린 것보다 작은 순번의 데이터(늦게 도착한 응답/이벤트)를 무시
+    // - 상위 비트는 현재 시각(ms), 하위 SEQUENCE_BITS는 같은 ms 안의 순번 - 재시작/다른 인스턴스에서도 뒤로 가지 않음
+    // - JS 안전 정수(2^53) 안에 들도록 하위 비트는 10개만 사용 (ms당 1024개를 넘으면 다음 ms 값을 당겨 씀)
+    private static final int SEQUENCE_BITS = 10;
+    private final AtomicLong dashboardSequence = new AtomicLong();
+
+    private static final Duration CALL_TIMEOUT = Duration.ofSeconds(2);
+    private static final Duration LOAD_TIMEOUT = Duration.ofSeconds(3);
     
-    // 대시보드 데이터 캐시 (5분 TTL)
-    private final Map<Long, DashboardCache> dashboardCache = new ConcurrentHashMap<>();
-    private static final long CACHE_TTL = 5 * 60 * 1000; // 5분
+    // 대시보드 데이터 캐시 - 로드/갱신은 키별로 하나만 진행
+    private final AsyncLoadingCache<Long, DashboardCache> dashboardCache;
+    private final Duration reconcileInterval;
+
+    // 동시 로드 상한 - 실행기 스레드를 점유하지 않으므로 스레드 수 대신 허가 수로 제한
+    private final Semaphore loadPermits;
+    private final Counter loadRejected;
+
+    // 반영한 이벤트 ID (재전송된 이벤트를 두 번 반영하지 않도록)
+    private final Cache<String, Boolean> processedEvents = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofHours(1))
+            .maximumSize(100_000)
+            .build();
+
+    public AsyncDashboardService(ReactiveProductServiceClient reactiveProductServiceClient,
+                                 ProductStatsBatcher productStatsBatcher,
+                                 @Qualifier("dashboardTaskExecutor") Executor dashboardTaskExecutor,
+                                 NotificationController notificationController,
+                                 ObjectMapper objectMapper,
+                                 DashboardCacheProperties properties,
+                                 MeterRegistry meterRegistry,
+                                 CacheInvalidationBus invalidationBus) {
+        this.reactiveProductServiceClient = reactiveProductServiceClient;
+        this.productStatsBatcher = productStatsBatcher;
+        this.dashboardScheduler = Schedulers.fromExecutor(dashboardTaskExecutor);
+        this.notificationController = notificationController;
+        this.objectMapper = objectMapper;
+        this.errorDashboard = PreSerializedJson.of(objectMapper, DashboardDataDto.builder()
+                .stats(DashboardStatsDto.empty())
+                .recentProducts(List.of())
+                .recentActivity(List.of())
+                .loading(false)
+                .error("일시적으로 통계를 불러올 수 없습니다. 잠시 후 다시 시도해주세요.")
+                .build());
+        this.reconcileInterval = properties.getSoftTtl();
+        this.loadPermits = new Semaphore(properties.getMaxConcurrentLoads());
+        // 실행기 대기열 초과와 같은 카운터에 합산
+        this.loadRejected = Counter.builder("dashboard.load.rejected")
+                .description("대기열 초과로 거절된 대시보드 로드 수")
+                .register(meterRegistry);
+        this.dashboardCache = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaxMemory().toBytes())
+                .<Long, DashboardCache>weigher((userId, cached) -> cached.estimateSize())
+                .expireAfter(new LoadedAtExpiry(properties.getHardTtl()))
+                .recordStats()
+                .buildAsync((userId, executor) -> submitLoad(userId));
+        CaffeineCacheMetrics.monitor(meterRegistry, dashboardCache, CACHE_NAME);
+
+        this.invalidationBus = invalidationBus;
+        invalidationBus.subscribe(Topic.DASHBOARD, this::onRemoteDashboardChange);
+    }
 
     /**
-     * 대시보드 데이터를 비동기로 조회하고 캐시
+     * 대시보드 데이터 조회
+     * - 캐시된 값이 있으면 (soft TTL이 지났어도) 즉시 응답, 필요하면 갱신은 캐시가 백그라운드로 수행
+     * - 처음 조회하는 사용자만 기본값을 받고 로드는 백그라운드로 진행
      */
-    public Map<String, Object> getDashboardData(Long userId) {
-        // 캐시 확인
-        DashboardCache cached = dashboardCache.get(userId);
-        if (cached != null && !cached.isExpired()) {
+    public PreSerializedJson getDashboardData(Long userId) {
+        DashboardCache cached = completedValue(dashboardCache.get(userId));
+        if (cached != null) {
             log.info("대시보드 캐시 히트: userId={}", userId);
-            return cached.getData();
+            // 이벤트 반영은 갱신 시각을 바꾸지 않으므로 이벤트가 잦아도 주기적 보정은 계속 일어남
+            if (cached.isOlderThan(reconcileInterval)) {
+                loadDashboardDataAsync(userId);
+            }
+            return cached.getPayload();
         }
 
-        // 캐시 미스 또는 만료 - 빠른 응답을 위해 기본값 먼저 반환
-        Map<String, Object> defaultData = createDefaultDashboard(userId);
-        
-        // 백그라운드에서 실제 데이터 로드
-        loadDashboardDataAsync(userId);
-        
-        return defaultData;
+        // 캐시 미스 - 빠른 응답을 위해 기본값 먼저 반환 (로드는 위 get에서 이미 시작됨)
+        return createDefaultDashboard(userId);
     }
 
     /**
-     * 백그라운드에서 실제 대시보드 데이터 로드
+     * 백그라운드에서 대시보드 데이터 다시 로드 (기존 값은 로드가 끝날 때까지 그대로 응답)
+     * - 진행 중인 재조회가 있으면 새로 시작하지 않음
      */
-    @Async
     public void loadDashboardDataAsync(Long userId) {
+        dashboardCache.synchronous().refresh(userId);
+    }
+
+    /**
+     * 로드를 대시보드 실행기에서 구독 - 같은 사용자의 동시 미스/새로고침은 캐시가 이 로드 하나로 합침
+     * - 블로킹 대기 없이 future로 연결, 결과 전송(SSE)은 다시 실행기에서 수행 (Netty 스레드에서 쓰지 않도록)
+     * - 동시 로드 상한이나 실행기 대기열을 넘으면 실패한 future를 캐시에 남기지 않으므로 다음 조회에서 다시 시도
+     */
+    private CompletableFuture<DashboardCache> submitLoad(Long userId) {
+        if (!loadPermits.tryAcquire()) {
+            loadRejected.increment();
+            log.warn("대시보드 로드 거절 (동시 로드 초과): userId={}", userId);
+            return CompletableFuture.failedFuture(new RejectedExecutionException("대시보드 동시 로드 초과"));
+        }
+        return loadDashboardData(userId)
+                .subscribeOn(dashboardScheduler)
+                .publishOn(dashboardScheduler)
+                .doOnNext(loaded -> pushDashboard(userId, loaded))
+                .doOnError(RejectedExecutionException.class,
+                        e -> log.warn("대시보드 로드 거절 (대기열 초과): userId={}", userId))
+                .doFinally(signal -> loadPermits.release())
+                .toFuture();
+    }
+
+    /**
+     * 실제 대시보드 데이터 로드
+     * - 전체 로드 시간은 LOAD_TIMEOUT으로 상한 (허가도 그때 반환)
+     * - 논블로킹 호출을 Mono.zip으로 합성하므로 통계/상품 조회는 동시에 진행
+     * - 최근 활동은 등록 상품 응답에서 만들어 같은 목록을 두 번 받지 않음
+     * - 통계는 동시에 로드 중인 다른 사용자 요청과 합쳐 일괄 조회
+     * - 실패하면 캐시에 넣지 않음 (갱신 중이었다면 기존 값 유지)
+     */
+    private Mono<DashboardCache> loadDashboardData(Long userId) {
+        log.info("대시보드 데이터 비동기 로드 시작: userId={}", userId);
+
+        return Mono.zip(
+                // 공유 future이므로 타임아웃으로 취소되어도 다른 대기자에게 전파하지 않음
+                Mono.fromFuture(() -> productStatsBatcher.load(userId), true),
+                reactiveProductServiceClient.getUserProducts(userId, CALL_TIMEOUT))
+            .timeout(LOAD_TIMEOUT)
+            .map(result -> {
+                List<ProductSummaryDto> recentProducts = result.getT2().stream().limit(RECENT_PRODUCTS).toList();
+
+                log.info("대시보드 데이터 캐시 업데이트 완료: userId={}", userId);
+                return newDashboard(result.getT1(), recentProducts, System.nanoTime());
+            })
+            .doOnError(throwable -> log.warn("대시보드 데이터 로드 타임아웃: userId={}, error={}", userId, throwable.getMessage()));
+    }
+
+    /**
+     * 상품 이벤트 중복 확인 - 처음 보는 이벤트 ID면 true (ID가 없으면 확인하지 않음)
+     */
+    public boolean markEventProcessed(String eventId) {
+        if (eventId == null || eventId.isBlank()) {
+            return true;
+        }
+        return processedEvents.asMap().putIfAbsent(eventId, Boolean.TRUE) == null;
+    }
+
+    /**
+     * 처리 표시 취소 - 반영에 실패한 이벤트가 재전송되면 다시 반영되도록
+     */
+    public void unmarkEventProcessed(String eventId) {
+        if (eventId != null && !eventId.isBlank()) {
+            processedEvents.invalidate(eventId);
+        }
+    }
+
+    /**
+     * 상품 등록 반영 - 판매자 등록 수 +1, 최근 상품 맨 앞에 추가
+     */
+    public void onProductRegistered(Long sellerId, ProductSummaryDto product) {
+        applyEvent(sellerId, stats -> stats.toBuilder()
+                .registeredProducts(stats.getRegisteredProducts() + 1)
+                .build(), products -> {
+            List<ProductSummaryDto> next = new ArrayList<>(RECENT_PRODUCTS);
+            next.add(product);
+            products.stream()
+                    .filter(existing -> !Objects.equals(existing.getProductId(), product.getProductId()))
+                    .limit(RECENT_PRODUCTS - 1)
+                    .forEach(next::add);
+            return next;
+        });
+    }
+
+    /**
+     * 상품 구매 반영 - 판매자 판매 수/매출, 구매자 구매 수/지출, 양쪽 거래 수
+     */
+    public void onProductPurchased(Long sellerId, Long buyerId, Long productId, double price) {
+        applyEvent(sellerId, stats -> stats.toBuilder()
+                .soldProducts(stats.getSoldProducts() + 1)
+                .totalTransactions(stats.getTotalTransactions() + 1)
+                .totalSales(stats.getTotalSales() + price)
+                .build(), products -> withStatus(products, productId, null, "SOLD"));
+
+        applyEvent(buyerId, stats -> stats.toBuilder()
+                .purchasedProducts(stats.getPurchasedProducts() + 1)
+                .totalTransactions(stats.getTotalTransactions() + 1)
+                .totalPurchases(stats.getTotalPurchases() + price)
+                .build(), UnaryOperator.identity());
+    }
+
+    /**
+     * 상품 상태 변경 반영 - 최근 상품 상태만 갱신
+     * - 판매 수/매출은 구매 이벤트에서만 반영 (판매완료 상태 변경과 구매 이벤트가 함께 와도 중복 집계하지 않도록)
+     */
+    public void onProductStatusChanged(Long sellerId, Long productId, String title, String newStatus) {
+        applyEvent(sellerId, UnaryOperator.identity(), products -> withStatus(products, productId, title, newStatus));
+    }
+
+    /**
+     * 캐시 항목에 이벤트 반영 (다른 인스턴스에는 해당 사용자 재조회를 전파)
+     * - 로드가 끝난 항목: 바로 반영 - 진행 중인 갱신(refresh)은 항목이 바뀌었으므로 캐시가 결과를 버림 (이벤트 이전에 읽었을 수 있는 값이 덮어쓰지 않음)
+     * - 첫 로드 중인 항목: 로드 결과에 이어서 반영 (로드가 이벤트 이전 상태를 읽었어도 누락되지 않음)
+     * - 갱신 시각(loadedAt)은 유지해 보정 주기와 hard TTL이 이벤트로 밀리지 않음 (버려진 갱신은 다음 조회에서 다시 시작)
+     */
+    private void applyEvent(Long userId, UnaryOperator<ProductStatsDto> statsUpdate,
+                            UnaryOperator<List<ProductSummaryDto>> productsUpdate) {
+        Function<DashboardCache, DashboardCache> update = cached -> newDashboard(
+                statsUpdate.apply(cached.getStats()),
+                List.copyOf(productsUpdate.apply(cached.getRecentProducts())),
+                cached.getLoadedAtNanos());
+
+        CompletableFuture<DashboardCache> updated = dashboardCache.asMap().computeIfPresent(userId, (id, current) -> {
+            if (!current.isDone()) {
+                return current.thenApply(update);
+            }
+            DashboardCache cached = completedValue(current);
+            return cached != null ? CompletableFuture.completedFuture(update.apply(cached)) : current;
+        });
+
+        if (updated != null) {
+            updated.thenAccept(cached -> {
+                log.debug("대시보드 이벤트 반영: userId={}, sequence={}", userId, cached.getSequence());
+                pushDashboard(userId, cached);
+            });
+        }
+        invalidationBus.publish(Topic.DASHBOARD, userId);
+    }
+
+    /**
+     * 다른 인스턴스에서 받은 이벤트 알림 - 캐시된 사용자만 백그라운드 재조회 (기존 값은 재조회가 끝날 때까지 응답)
+     */
+    private void onRemoteDashboardChange(long userId) {
+        if (dashboardCache.getIfPresent(userId) != null) {
+            loadDashboardDataAsync(userId);
+        }
+    }
+
+    private static List<ProductSummaryDto> withStatus(List<ProductSummaryDto> products, Long productId,
+                                                      String title, String newStatus) {
+        if (productId == null && title == null) {
+            return products;
+        }
+        return products.stream()
+                .map(product -> (productId != null ? Objects.equals(product.getProductId(), productId) : Objects.equals(product.getTitle(), title))
+                        ? product.toBuilder().status(newStatus).build()
+                        : product)
+                .toList();
+    }
+
+    /**
+     * 통계/최근 상품으로 응답 데이터 생성 - 변경 시점에 한 번만 직렬화하고 조회 때는 그 결과를 그대로 사용
+     */
+    private DashboardCache newDashboard(ProductStatsDto stats, List<ProductSummaryDto> recentProducts, long loadedAtNanos) {
+        long sequence = nextSequence();
+
+        DashboardDataDto dashboardData = DashboardDataDto.builder()
+                .stats(DashboardStatsDto.from(stats))
+                .recentProducts(recentProducts)
+                .recentActivity(ProductServiceClient.toRecentActivity(recentProducts))
+                .lastUpdated(System.currentTimeMillis())
+                .sequence(sequence)
+                .cached(true)
+                .build();
+
+        PreSerializedJson payload = PreSerializedJson.of(objectMapper, dashboardData);
+        return new DashboardCache(dashboardData, payload, stats, recentProducts, sequence, loadedAtNanos,
+                ENTRY_OVERHEAD_BYTES + payload.estimateSize());
+    }
+
+    private long nextSequence() {
+        long floor = System.currentTimeMillis() << SEQUENCE_BITS;
+        return dashboardSequence.updateAndGet(previous -> Math.max(previous + 1, floor));
+    }
+
+    /**
+     * 로드 결과를 사용자 SSE 스트림으로 전송 - 연결이 없으면 아무것도 하지 않음
+     * - 전송 실패는 로드 결과(캐시 저장)에 영향을 주지 않음
+     */
+    private void pushDashboard(Long userId, DashboardCache loaded) {
         try {
-            log.info("대시보드 데이터 비동기 로드 시작: userId={}", userId);
-            
-            // 병렬로 데이터 조회
-            CompletableFuture<ProductStatsDto> statsFuture = CompletableFuture
-                .supplyAsync(() -> productServiceClient.getUserProductStatsWithTimeout(userId, 2000));
-            
-            CompletableFuture<List<Map<String, Object>>> productsFuture = CompletableFuture
-                .supplyAsync(() -> productServiceClient.getUserProductsWithTimeout(userId, 2000));
-            
-            CompletableFuture<List<Map<String, Object>>> activityFuture = CompletableFuture
-                .supplyAsync(() -> productServiceClient.getRecentActivityWithTimeout(userId, 2000));
-
-            // 모든 비동기 작업 완료 대기 (최대 3초)
-            CompletableFuture.allOf(statsFuture, productsFuture, activityFuture)
-                .orTimeout(3, java.util.concurrent.TimeUnit.SECONDS)
-                .thenRun(() -> {
-                    try {
-                        ProductStatsDto stats = statsFuture.get();
-                        List<Map<String, Object>> products = productsFuture.get();
-                        List<Map<String, Object>> activity = activityFuture.get();
-                        
-                        Map<String, Object> dashboardData = Map.of(
-                            "stats", Map.of(
-                                "registeredProducts", stats.getRegisteredProducts(),
-                                "purchasedProducts", stats.getPurchasedProducts(),
-                                "soldProducts", stats.getSoldProducts(),
-                                "totalTransactions", stats.getTotalTransactions(),
-                                "totalSales", stats.getTotalSales(),
-                                "totalPurchases", stats.getTotalPurchases()
-                            ),
-                            "recentProducts", products.stream().limit(5).toList(),
-                            "recentActivity", activity,
-                            "lastUpdated", System.currentTimeMillis(),
-                            "cached", true
-                        );
-                        
-                        // 캐시에 저장
-                        dashboardCache.put(userId, new DashboardCache(dashboardData));
-                        log.info("대시보드 데이터 캐시 업데이트 완료: userId={}", userId);
-                        
-                    } catch (Exception e) {
-                        log.warn("대시보드 데이터 로드 실패: userId={}, error={}", userId, e.getMessage());
-                    }
-                })
-                .exceptionally(throwable -> {
-                    log.warn("대시보드 데이터 로드 타임아웃: userId={}", userId);
-                    return null;
-                });
-                
+            notificationController.sendNotificationToUser(userId, DASHBOARD_EVENT, Map.of(
+                    "type", DASHBOARD_EVENT,
+                    "sequence", loaded.getSequence(),
+                    "data", loaded.getPayload(),
+                    "timestamp", System.currentTimeMillis()
+            ), String.valueOf(loaded.getSequence()));
         } catch (Exception e) {
-            log.error("대시보드 비동기 로드 오류: userId={}, error={}", userId, e.getMessage());
+            log.warn("대시보드 데이터 전송 실패: userId={}, error={}", userId, e.getMessage());
         }
     }
 
     /**
      * 기본 대시보드 데이터 생성 (즉시 응답용)
      */
-    private Map<String, Object> createDefaultDashboard(Long userId) {
-        return Map.of(
-            "stats", Map.of(
-                "registeredProducts", 0,
-                "purchasedProducts", 0,
-                "soldProducts", 0,
-                "totalTransactions", 0,
-                "totalSales", 0.0,
-                "totalPurchases", 0.0
-            ),
-            "recentProducts", List.of(),
-            "recentActivity", List.of(),
-            "lastUpdated", System.currentTimeMillis(),
-            "loading", true,
-            "message", "데이터를 불러오는 중입니다..."
-        );
+    private PreSerializedJson createDefaultDashboard(Long userId) {
+        return PreSerializedJson.of(objectMapper, DashboardDataDto.builder()
+                .stats(DashboardStatsDto.empty())
+                .recentProducts(List.of())
+                .recentActivity(List.of())
+                .lastUpdated(System.currentTimeMillis())
+                .loading(true)
+                .updateEvent(DASHBOARD_EVENT)
+                .message("데이터를 불러오는 중입니다...")
+                .build());
     }
 
     /**
-     * 캐시된 대시보드 데이터 조회 (실시간 업데이트용)
+     * 대시보드를 불러올 수 없을 때 응답할 데이터
      */
-    public Map<String, Object> getCachedDashboardData(Long userId) {
-        DashboardCache cached = dashboardCache.get(userId);
-        if (cached != null && !cached.isExpired()) {
-            return cached.getData();
-        }
-        return null;
+    public PreSerializedJson getErrorDashboard() {
+        return errorDashboard;
+    }
+
+    /**
+     * 캐시된 대시보드 데이터 조회 (실시간 업데이트용) - 로드가 끝나지 않았으면 null
+     */
+    public PreSerializedJson getCachedDashboardData(Long userId) {
+        DashboardCache cached = completedValue(dashboardCache.getIfPresent(userId));
+        return cached != null ? cached.getPayload() : null;
     }
 
     /**
      * 대시보드 캐시 무효화
      */
     public void invalidateDashboardCache(Long userId) {
-        dashboardCache.remove(userId);
+        dashboardCache.synchronous().invalidate(userId);
         log.info("대시보드 캐시 무효화: userId={}", userId);
     }
 
     /**
-     * 만료된 캐시 정리
+     * 만료된 캐시 정리 (만료/용량 초과 항목은 캐시가 자체 정리하므로 보류 중인 정리 작업만 실행)
      */
     public void cleanupExpiredCache() {
-        dashboardCache.entrySet().removeIf(entry -> entry.getValue().isExpired());
+        dashboardCache.synchronous().cleanUp();
+    }
+
+    private static DashboardCache completedValue(CompletableFuture<DashboardCache> future) {
+        if (future == null || !future.isDone() || future.isCompletedExceptionally()) {
+            return null;
+        }
+        return future.join();
+    }
+
+    /**
+     * Product Service에서 마지막으로 불러온 시각 기준으로 만료 (이벤트 반영으로는 연장되지 않음)
+     */
+    private record LoadedAtExpiry(Duration hardTtl) implements Expiry<Long, DashboardCache> {
+
+        @Override
+        public long expireAfterCreate(Long userId, DashboardCache cached, long currentTime) {
+            return remaining(cached, currentTime);
+        }
+
+        @Override
+        public long expireAfterUpdate(Long userId, DashboardCache cached, long currentTime, long currentDuration) {
+            return remaining(cached, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Long userId, DashboardCache cached, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        private long remaining(DashboardCache cached, long currentTime) {
+            return Math.max(0, hardTtl.toNanos() - (currentTime - cached.getLoadedAtNanos()));
+        }
     }
 
     /**
      * 대시보드 캐시 클래스
      */
     private static class DashboardCache {
-        private final Map<String, Object> data;
-        private final long timestamp;
+        private final DashboardDataDto data;
+        private final PreSerializedJson payload;
+        private final ProductStatsDto stats;
+        private final List<ProductSummaryDto> recentProducts;
+        private final long sequence;
+        private final long loadedAtNanos;
+        private final int estimatedSize;
 
-        public DashboardCache(Map<String, Object> data) {
+        public DashboardCache(DashboardDataDto data, PreSerializedJson payload, ProductStatsDto stats,
+                              List<ProductSummaryDto> recentProducts, long sequence, long loadedAtNanos, int estimatedSize) {
             this.data = data;
-            this.timestamp = System.currentTimeMillis();
+            this.payload = payload;
+            this.stats = stats;
+            this.recentProducts = recentProducts;
+            this.sequence = sequence;
+            this.loadedAtNanos = loadedAtNanos;
+            this.estimatedSize = estimatedSize;
         }
 
-        public Map<String, Object> getData() {
+        public DashboardDataDto getData() {
             return data;
         }
 
-        public boolean isExpired() {
-            return System.currentTimeMillis() - timestamp > CACHE_TTL;
+        public PreSerializedJson getPayload() {
+            return payload;
+        }
+
+        public ProductStatsDto getStats() {
+            return stats;
+        }
+
+        public List<ProductSummaryDto> getRecentProducts() {
+            return recentProducts;
+        }
+
+        public long getSequence() {
+            return sequence;
+        }
+
+        public long getLoadedAtNanos() {
+            return loadedAtNanos;
+        }
+
+        public boolean isOlderThan(Duration age) {
+            return System.nanoTime() - loadedAtNanos > age.toNanos();
+        }
+
+        public int estimateSize() {
+            return estimatedSize;
         }
     }
-} 
\ No newline at end of file
+}
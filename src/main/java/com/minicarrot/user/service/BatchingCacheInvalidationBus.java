@@ -0,0 +1,143 @@
+package com.minicarrot.user.service;
+
+import com.minicarrot.user.config.CacheInvalidationProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+
+/**
+ * 무효화 요청 배치 전송 공통 로직
+ * - 주기마다 대기 중인 ID를 주제별로 모아 한 번에 전송 (같은 ID는 한 번만)
+ * - 대기 건수가 배치 크기에 도달하면 주기를 기다리지 않고 즉시 전송
+ * - 발행한 인스턴스는 이미 로컬 무효화를 마쳤으므로 자기 인스턴스가 보낸 배치는 구독자에게 전달하지 않음
+ */
+@Slf4j
+public abstract class BatchingCacheInvalidationBus implements CacheInvalidationBus {
+
+    private final CacheInvalidationProperties properties;
+    
+    // 발신 인스턴스 식별자 (자기 메시지 판별용)
+    private final String instanceId = UUID.randomUUID().toString();
+    
+    // 주제별 전송 대기 중인 ID (중복 제거)
+    private final Map<Topic, Set<Long>> pendingIds = new EnumMap<>(Topic.class);
+    
+    private final Map<Topic, List<LongConsumer>> listeners = new EnumMap<>(Topic.class);
+    
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "cache-invalidation-flush");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    protected BatchingCacheInvalidationBus(CacheInvalidationProperties properties) {
+        this.properties = properties;
+        for (Topic topic : Topic.values()) {
+            pendingIds.put(topic, ConcurrentHashMap.newKeySet());
+            listeners.put(topic, new CopyOnWriteArrayList<>());
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        long intervalMillis = Math.max(1, properties.getFlushInterval().toMillis());
+        scheduler.scheduleWithFixedDelay(this::flushSafely, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        log.info("캐시 무효화 버스 시작: transport={}, 전송 주기={}ms", properties.getTransport(), intervalMillis);
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdown();
+        try {
+            // 진행 중인 전송이 끝난 뒤 남은 요청을 마저 전송
+            scheduler.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushSafely();
+    }
+
+    @Override
+    public void publish(Topic topic, long id) {
+        Set<Long> pending = pendingIds.get(topic);
+        pending.add(id);
+        if (pending.size() >= properties.getMaxBatchSize()) {
+            scheduler.execute(this::flushSafely);
+        }
+    }
+
+    @Override
+    public void subscribe(Topic topic, LongConsumer listener) {
+        listeners.get(topic).add(listener);
+    }
+
+    /**
+     * 대기 중인 ID를 주제별로 배치 크기 단위로 잘라 전송
+     */
+    protected void flush() {
+        pendingIds.forEach(this::flush);
+    }
+
+    private void flush(Topic topic, Set<Long> pending) {
+        while (!pending.isEmpty()) {
+            long[] batch = new long[Math.min(pending.size(), properties.getMaxBatchSize())];
+            int count = 0;
+            Iterator<Long> iterator = pending.iterator();
+            while (count < batch.length && iterator.hasNext()) {
+                batch[count++] = iterator.next();
+                iterator.remove();
+            }
+            if (count == 0) {
+                return;
+            }
+            send(topic, count == batch.length ? batch : Arrays.copyOf(batch, count));
+        }
+    }
+
+    protected String getInstanceId() {
+        return instanceId;
+    }
+
+    /**
+     * 수신한 무효화를 구독자에게 전달 (자기 인스턴스 발신이면 무시)
+     */
+    protected void deliver(String originInstanceId, Topic topic, long[] ids) {
+        if (instanceId.equals(originInstanceId)) {
+            return;
+        }
+        List<LongConsumer> topicListeners = listeners.get(topic);
+        for (long id : ids) {
+            for (LongConsumer listener : topicListeners) {
+                try {
+                    listener.accept(id);
+                } catch (Exception e) {
+                    log.warn("캐시 무효화 처리 실패: topic={}, id={}, error={}", topic, id, e.getMessage());
+                }
+            }
+        }
+    }
+
+    protected abstract void send(Topic topic, long[] ids);
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("캐시 무효화 전송 실패: error={}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.minicarrot.user.service;
+
+import java.util.function.LongConsumer;
+
+/**
+ * 사용자 단위 캐시 무효화 전파 버스
+ * - publish 된 ID는 주제별로 짧은 주기로 모아서(중복 제거) 전송
+ * - 구독자는 다른 인스턴스(또는 루프백)에서 들어온 무효화를 주제/ID 단위로 수신
+ */
+public interface CacheInvalidationBus {
+
+    /**
+     * 무효화 주제 - 주제마다 ID의 의미와 구독자가 다름
+     */
+    enum Topic {
+        // 사용자 토큰/닉네임 캐시 (ID = 사용자 ID)
+        USER,
+        // 판매자별 상품 인덱스 (ID = 판매자 ID)
+        SELLER_PRODUCTS,
+        // 대시보드 캐시 (ID = 사용자 ID)
+        DASHBOARD
+    }
+
+    void publish(Topic topic, long id);
+
+    void subscribe(Topic topic, LongConsumer listener);
+
+    default void publishUserInvalidation(long userId) {
+        publish(Topic.USER, userId);
+    }
+
+    default void subscribe(LongConsumer listener) {
+        subscribe(Topic.USER, listener);
+    }
+}
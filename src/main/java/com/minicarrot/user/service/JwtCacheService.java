@@ -1,68 +1,210 @@
 package com.minicarrot.user.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import com.minicarrot.user.common.Constants.ErrorMessage;
+import com.minicarrot.user.config.JwtCacheProperties;
 import com.minicarrot.user.dto.UserResponse;
+import com.minicarrot.user.entity.User;
+import com.minicarrot.user.repository.UserRepository;
+import com.minicarrot.user.util.ConcurrentLongMap;
+import com.minicarrot.user.util.JwtClaims;
 import com.minicarrot.user.util.JwtUtil;
-import lombok.RequiredArgsConstructor;
+import com.minicarrot.user.util.TokenDigest;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * JWT 토큰 캐싱 서비스
  * - 토큰 검증 결과를 메모리에 캐싱하여 성능 향상
- * - 만료된 캐시 자동 정리
+ * - W-TinyLFU 기반 크기 제한 캐시로 토큰 폭주 시에도 힙 사용량 상한 보장
+ * - 항목별 만료 시각을 토큰 exp 클레임에 맞춤
+ * - 닉네임처럼 바뀔 수 있는 프로필 값은 토큰 클레임이 아닌 DB에서 읽어 사용자 ID 단위로 별도 캐싱
+ * - 사용자 ID 역인덱스로 사용자 단위 무효화를 해당 사용자 항목 수에 비례하게 처리
+ * - 사용자 단위 무효화를 CacheInvalidationBus로 다른 인스턴스에 전파
+ * - 캐시 히트 여부와 관계없이 폐기 목록(블룸 필터) 확인
  * - 로컬 토큰 검증으로 DB 조회 최소화
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class JwtCacheService {
 
+    private static final String CACHE_NAME = "jwt.token.cache";
+    private static final String NICKNAME_CACHE_NAME = "jwt.nickname.cache";
+    
+    // 항목당 고정 오버헤드 추정치 (객체 헤더, 참조, 캐시 노드, 다이제스트 키)
+    private static final int ENTRY_OVERHEAD_BYTES = 256;
+    
+    // 무효화 표식 보존 시간 - 무효화 직전에 시작된 토큰 로드가 끝날 때까지 유지
+    private static final long INVALIDATION_MARKER_TTL_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
     private final JwtUtil jwtUtil;
+    private final JwtCacheProperties cacheProperties;
+    private final CacheInvalidationBus invalidationBus;
+    private final TokenRevocationService tokenRevocationService;
+    private final UserRepository userRepository;
     
-    // 토큰 캐시 (토큰 해시 -> 사용자 정보)
-    private final ConcurrentHashMap<String, CachedUserInfo> tokenCache = new ConcurrentHashMap<>();
+    // 토큰 캐시 (토큰 다이제스트 -> 토큰에서 얻은 불변 정보)
+    private final Cache<TokenDigest, CachedUserInfo> tokenCache;
     
-    // 캐시 정리를 위한 스케줄러
-    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
+    // 닉네임 캐시 (사용자 ID -> DB의 현재 닉네임), 사용자 무효화 시 함께 제거
+    private final Cache<Long, String> nicknameCache;
+    
+    // 역인덱스 (사용자 ID -> 캐시된 토큰 다이제스트), 모든 변경은 compute 안에서만 수행
+    private final ConcurrentLongMap<UserTokens> userTokenIndex = new ConcurrentLongMap<>();
     
-    // 캐시 TTL (5분)
-    private static final long CACHE_TTL_MINUTES = 5;
+    // 무효화 순서 판별용 논리 시계
+    private final AtomicLong invalidationClock = new AtomicLong();
+    
+    // 무효화 표식 정리를 위한 스케줄러
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
+
+    public JwtCacheService(JwtUtil jwtUtil, JwtCacheProperties cacheProperties, 
+                           CacheInvalidationBus invalidationBus, TokenRevocationService tokenRevocationService,
+                           UserRepository userRepository, MeterRegistry meterRegistry) {
+        this.jwtUtil = jwtUtil;
+        this.cacheProperties = cacheProperties;
+        this.invalidationBus = invalidationBus;
+        this.tokenRevocationService = tokenRevocationService;
+        this.userRepository = userRepository;
+        this.tokenCache = buildTokenCache(cacheProperties, this::onEvicted);
+        this.nicknameCache = Caffeine.newBuilder()
+                .maximumSize(cacheProperties.getMaxEntries())
+                .expireAfterWrite(cacheProperties.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, tokenCache, CACHE_NAME);
+        CaffeineCacheMetrics.monitor(meterRegistry, nicknameCache, NICKNAME_CACHE_NAME);
+        
+        // 다른 인스턴스에서 전파된 무효화는 로컬 캐시에만 반영 (재전파 없음)
+        invalidationBus.subscribe(this::invalidateAllForUser);
+    }
     
     /**
-     * 캐시된 사용자 정보 클래스
+     * 캐시된 사용자 정보 클래스 (토큰이 바뀌지 않는 한 변하지 않는 값만 보관)
      */
     private static class CachedUserInfo {
-        private final UserResponse userResponse;
-        private final long cachedAt;
-        private final long expiresAt;
+        private final Long userId;
+        private final String email;
+        private final String tokenId;
+        private final long tokenExpiresAt;
         
-        public CachedUserInfo(UserResponse userResponse) {
-            this.userResponse = userResponse;
-            this.cachedAt = System.currentTimeMillis();
-            this.expiresAt = cachedAt + TimeUnit.MINUTES.toMillis(CACHE_TTL_MINUTES);
+        public CachedUserInfo(Long userId, String email, String tokenId, long tokenExpiresAt) {
+            this.userId = userId;
+            this.email = email;
+            this.tokenId = tokenId;
+            this.tokenExpiresAt = tokenExpiresAt;
         }
         
-        public boolean isExpired() {
-            return System.currentTimeMillis() > expiresAt;
+        public Long getUserId() {
+            return userId;
         }
         
-        public UserResponse getUserResponse() {
-            return userResponse;
+        public String getEmail() {
+            return email;
+        }
+        
+        public String getTokenId() {
+            return tokenId;
+        }
+        
+        public long getTokenExpiresAt() {
+            return tokenExpiresAt;
+        }
+        
+        /**
+         * 메모리 예산 계산용 크기 추정 (문자열은 최대 2바이트/문자로 계산)
+         */
+        public int estimateSize() {
+            int chars = length(tokenId) + length(email);
+            return ENTRY_OVERHEAD_BYTES + chars * 2;
+        }
+        
+        private static int length(String value) {
+            return value != null ? value.length() : 0;
+        }
+    }
+
+    /**
+     * 사용자별 캐시 토큰 목록과 마지막 무효화 시점
+     */
+    private static class UserTokens {
+        private final Set<TokenDigest> digests = new HashSet<>(4);
+        private volatile long invalidatedAt;
+        private long invalidatedAtMillis;
+        
+        public boolean isRemovable(long nowMillis) {
+            return digests.isEmpty() 
+                && (invalidatedAt == 0 || nowMillis - invalidatedAtMillis > INVALIDATION_MARKER_TTL_MILLIS);
         }
     }
     
     /**
-     * 초기화 - 캐시 정리 스케줄러 시작
+     * 크기 제한 캐시 생성
+     * - 가중치 단위는 바이트, 항목당 최소 가중치를 (메모리 예산 / 최대 항목 수)로 두어
+     *   메모리 예산과 항목 수 상한을 동시에 적용
+     */
+    private static Cache<TokenDigest, CachedUserInfo> buildTokenCache(
+            JwtCacheProperties properties, EvictionHandler evictionHandler) {
+        long maxWeight = properties.getMaxMemory().toBytes();
+        int minEntryWeight = (int) Math.max(1, maxWeight / Math.max(1, properties.getMaxEntries()));
+        long ttlNanos = properties.getTtl().toNanos();
+        
+        return Caffeine.newBuilder()
+                .maximumWeight(maxWeight)
+                .<TokenDigest, CachedUserInfo>weigher((key, info) -> Math.max(minEntryWeight, info.estimateSize()))
+                .expireAfter(new Expiry<TokenDigest, CachedUserInfo>() {
+                    @Override
+                    public long expireAfterCreate(TokenDigest key, CachedUserInfo info, long currentTime) {
+                        long untilTokenExpiry = TimeUnit.MILLISECONDS.toNanos(
+                                info.getTokenExpiresAt() - System.currentTimeMillis());
+                        return Math.max(0, Math.min(ttlNanos, untilTokenExpiry));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(TokenDigest key, CachedUserInfo info, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, info, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(TokenDigest key, CachedUserInfo info, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .evictionListener((TokenDigest key, CachedUserInfo info, RemovalCause cause) -> 
+                    evictionHandler.onEvicted(key, info))
+                .scheduler(Scheduler.systemScheduler())
+                .recordStats()
+                .build();
+    }
+    
+    @FunctionalInterface
+    private interface EvictionHandler {
+        void onEvicted(TokenDigest key, CachedUserInfo info);
+    }
+    
+    /**
+     * 초기화 - 무효화 표식 정리 스케줄러 시작 (만료 항목은 캐시가 자체 정리)
      */
     public void init() {
-        // 1분마다 만료된 캐시 정리
-        scheduler.scheduleAtFixedRate(this::cleanExpiredCache, 1, 1, TimeUnit.MINUTES);
-        log.info("JWT 캐시 서비스 초기화 완료 - TTL: {}분", CACHE_TTL_MINUTES);
+        // 1분마다 오래된 무효화 표식 정리
+        scheduler.scheduleAtFixedRate(this::pruneUserTokenIndex, 1, 1, TimeUnit.MINUTES);
+        log.info("JWT 캐시 서비스 초기화 완료 - TTL: {}, 최대 항목: {}개, 메모리 예산: {}MB", 
+            cacheProperties.getTtl(), cacheProperties.getMaxEntries(), cacheProperties.getMaxMemory().toMegabytes());
     }
     
     /**
@@ -75,32 +217,40 @@ public class JwtCacheService {
             // Bearer 토큰에서 실제 토큰 추출
             String actualToken = extractActualToken(token);
             
-            // 1. 로컬 토큰 검증 (빠른 실패)
-            if (!jwtUtil.isTokenValid(actualToken)) {
-                log.warn("유효하지 않은 토큰");
-                throw new IllegalArgumentException("유효하지 않은 토큰입니다.");
-            }
+            // 1. 토큰 다이제스트 생성 (캐시 키)
+            TokenDigest tokenDigest = TokenDigest.of(actualToken);
             
-            // 2. 토큰 해시 생성 (캐시 키)
-            String tokenHash = generateTokenHash(actualToken);
+            // 2. 캐시에서 조회
+            //    - 키가 토큰 전체의 다이제스트이므로 히트는 이미 검증된 동일 토큰임을 의미
+            //    - 항목은 토큰 exp 이전에 만료되므로 히트 시 서명 재검증 생략
+            //    - 미스 시에만 서명 검증과 클레임 추출을 한 번의 파싱으로 처리
+            long loadStartedAt = invalidationClock.get();
+            CachedUserInfo cachedInfo = tokenCache.get(tokenDigest, key -> {
+                JwtClaims claims = jwtUtil.verifyToken(actualToken);
+                CachedUserInfo loaded = toCachedUserInfo(claims);
+                // 로드 도중 해당 사용자가 무효화되었으면 캐시에 저장하지 않음
+                return registerToken(claims.userId(), key, loadStartedAt) ? loaded : null;
+            });
             
-            // 3. 캐시에서 조회
-            CachedUserInfo cachedInfo = tokenCache.get(tokenHash);
-            if (cachedInfo != null && !cachedInfo.isExpired()) {
-                long duration = System.currentTimeMillis() - startTime;
-                log.debug("캐시에서 사용자 정보 조회 성공: userId={}, 소요시간={}ms", 
-                    cachedInfo.getUserResponse().getUserId(), duration);
-                return cachedInfo.getUserResponse();
+            if (cachedInfo == null) {
+                cachedInfo = toCachedUserInfo(jwtUtil.verifyToken(actualToken));
             }
             
-            // 4. 캐시 미스 - 토큰에서 직접 사용자 정보 추출
-            UserResponse userResponse = extractUserFromToken(actualToken);
+            // 3. 폐기 여부 확인 (대부분 블룸 필터 조회 한 번으로 종료)
+            if (tokenRevocationService.isRevoked(cachedInfo.getTokenId())) {
+                log.warn("폐기된 토큰 사용 시도: userId={}", cachedInfo.getUserId());
+                throw new IllegalArgumentException(ErrorMessage.REVOKED_TOKEN);
+            }
             
-            // 5. 캐시에 저장
-            tokenCache.put(tokenHash, new CachedUserInfo(userResponse));
+            // 4. 닉네임은 DB 기준 값 사용 (토큰 발급 이후 변경되었을 수 있음)
+            UserResponse userResponse = UserResponse.builder()
+                    .userId(cachedInfo.getUserId())
+                    .email(cachedInfo.getEmail())
+                    .nickname(cachedInfo.getUserId() != null ? nicknameCache.get(cachedInfo.getUserId(), this::loadNickname) : null)
+                    .build();
             
             long duration = System.currentTimeMillis() - startTime;
-            log.debug("토큰에서 사용자 정보 추출 및 캐싱 완료: userId={}, 소요시간={}ms", 
+            log.debug("사용자 정보 조회 완료: userId={}, 소요시간={}ms", 
                 userResponse.getUserId(), duration);
             
             return userResponse;
@@ -113,24 +263,19 @@ public class JwtCacheService {
     }
     
     /**
-     * 토큰에서 직접 사용자 정보 추출 (DB 조회 없이)
+     * 검증된 클레임에서 토큰 정보 구성 (DB 조회 없이)
      */
-    private UserResponse extractUserFromToken(String token) {
-        try {
-            String email = jwtUtil.getEmailFromToken(token);
-            Long userId = jwtUtil.getUserIdFromToken(token);
-            String nickname = jwtUtil.getNicknameFromToken(token);
-            
-            return UserResponse.builder()
-                    .userId(userId)
-                    .email(email)
-                    .nickname(nickname)
-                    .build();
-                    
-        } catch (Exception e) {
-            log.error("토큰에서 사용자 정보 추출 실패: error={}", e.getMessage());
-            throw new IllegalArgumentException("토큰에서 사용자 정보를 추출할 수 없습니다.", e);
-        }
+    private CachedUserInfo toCachedUserInfo(JwtClaims claims) {
+        return new CachedUserInfo(claims.userId(), claims.email(), claims.tokenId(), claims.expiresAtMillis());
+    }
+    
+    /**
+     * 닉네임 캐시 미스 시 DB에서 현재 닉네임 조회 (탈퇴한 사용자의 토큰은 거부)
+     */
+    private String loadNickname(Long userId) {
+        return userRepository.findById(userId)
+                .map(User::getNickname)
+                .orElseThrow(() -> new IllegalArgumentException(ErrorMessage.USER_NOT_FOUND));
     }
     
     /**
@@ -149,38 +294,88 @@ public class JwtCacheService {
     }
     
     /**
-     * 토큰 해시 생성 (캐시 키용)
+     * 특정 사용자의 캐시 무효화 (로컬 즉시 반영 후 클러스터에 전파)
      */
-    private String generateTokenHash(String token) {
-        // 토큰의 마지막 20자리를 해시로 사용 (보안상 전체 토큰 저장 방지)
-        if (token.length() > 20) {
-            return token.substring(token.length() - 20);
+    public void invalidateUserCache(Long userId) {
+        int invalidated = invalidateAllForUser(userId);
+        invalidationBus.publishUserInvalidation(userId);
+        log.debug("사용자 캐시 무효화 완료: userId={}, 제거={}개", userId, invalidated);
+    }
+    
+    /**
+     * 사용자의 모든 캐시 토큰 무효화 (역인덱스 기반, 해당 사용자 항목만 처리)
+     * - 무효화 시점을 기록하여 이 호출과 동시에 로드 중이던 토큰도 캐시에 남지 않도록 보장
+     */
+    public int invalidateAllForUser(long userId) {
+        List<TokenDigest> digests = new ArrayList<>();
+        long invalidatedAt = invalidationClock.incrementAndGet();
+        long nowMillis = System.currentTimeMillis();
+        
+        userTokenIndex.compute(userId, (id, tokens) -> {
+            UserTokens next = tokens != null ? tokens : new UserTokens();
+            next.invalidatedAt = invalidatedAt;
+            next.invalidatedAtMillis = nowMillis;
+            digests.addAll(next.digests);
+            next.digests.clear();
+            return next;
+        });
+        
+        tokenCache.invalidateAll(digests);
+        nicknameCache.invalidate(userId);
+        return digests.size();
+    }
+    
+    /**
+     * 단일 토큰 캐시 제거 (로그아웃 등)
+     */
+    public void invalidateToken(String token) {
+        tokenCache.invalidate(TokenDigest.of(extractActualToken(token)));
+    }
+    
+    /**
+     * 캐시 로드 시 역인덱스에 토큰 등록
+     * - 로드 시작 이후 사용자 무효화가 있었으면 등록하지 않고 false 반환
+     */
+    private boolean registerToken(Long userId, TokenDigest digest, long loadStartedAt) {
+        if (userId == null) {
+            return true;
         }
-        return token;
+        
+        UserTokens tokens = userTokenIndex.compute(userId, (id, current) -> {
+            UserTokens next = current != null ? current : new UserTokens();
+            if (next.invalidatedAt <= loadStartedAt) {
+                next.digests.add(digest);
+            }
+            return next;
+        });
+        return tokens.invalidatedAt <= loadStartedAt;
     }
     
     /**
-     * 특정 사용자의 캐시 무효화
+     * 만료/용량 초과로 제거된 항목을 역인덱스에서 제거 (캐시 항목 제거와 같은 원자 구간에서 호출)
      */
-    public void invalidateUserCache(Long userId) {
-        tokenCache.entrySet().removeIf(entry -> {
-            CachedUserInfo info = entry.getValue();
-            return info.getUserResponse().getUserId().equals(userId);
+    private void onEvicted(TokenDigest digest, CachedUserInfo info) {
+        Long userId = info.getUserId();
+        if (userId == null) {
+            return;
+        }
+        
+        long nowMillis = System.currentTimeMillis();
+        userTokenIndex.computeIfPresent(userId, (id, tokens) -> {
+            tokens.digests.remove(digest);
+            return tokens.isRemovable(nowMillis) ? null : tokens;
         });
-        log.debug("사용자 캐시 무효화 완료: userId={}", userId);
     }
     
     /**
-     * 만료된 캐시 정리
+     * 오래된 무효화 표식 정리
      */
-    private void cleanExpiredCache() {
-        int beforeSize = tokenCache.size();
-        tokenCache.entrySet().removeIf(entry -> entry.getValue().isExpired());
-        int afterSize = tokenCache.size();
+    private void pruneUserTokenIndex() {
+        long nowMillis = System.currentTimeMillis();
+        int removed = userTokenIndex.removeIf((userId, tokens) -> tokens.isRemovable(nowMillis));
         
-        if (beforeSize != afterSize) {
-            log.debug("만료된 캐시 정리 완료: {}개 -> {}개 ({}개 제거)", 
-                beforeSize, afterSize, beforeSize - afterSize);
+        if (removed > 0) {
+            log.debug("무효화 표식 정리 완료: {}개 제거", removed);
         }
     }
     
@@ -188,12 +383,8 @@ public class JwtCacheService {
      * 캐시 통계 조회
      */
     public CacheStats getCacheStats() {
-        int totalEntries = tokenCache.size();
-        long expiredEntries = tokenCache.values().stream()
-                .mapToLong(info -> info.isExpired() ? 1 : 0)
-                .sum();
-        
-        return new CacheStats(totalEntries, (int) expiredEntries);
+        // 만료 항목은 캐시가 즉시 제거하므로 별도 집계하지 않음
+        return new CacheStats((int) tokenCache.estimatedSize(), 0, tokenCache.stats().hitRate());
     }
     
     /**
@@ -202,19 +393,22 @@ public class JwtCacheService {
     public static class CacheStats {
         private final int totalEntries;
         private final int expiredEntries;
+        private final double hitRate;
         
-        public CacheStats(int totalEntries, int expiredEntries) {
+        public CacheStats(int totalEntries, int expiredEntries, double hitRate) {
             this.totalEntries = totalEntries;
             this.expiredEntries = expiredEntries;
+            this.hitRate = hitRate;
         }
         
         public int getTotalEntries() { return totalEntries; }
         public int getExpiredEntries() { return expiredEntries; }
         public int getActiveEntries() { return totalEntries - expiredEntries; }
+        public double getHitRate() { return hitRate; }
     }
     
     /**
-     * 서비스 종료 시 스케줄러 정리
+     * 서비스 종료 시 스케줄러와 캐시 정리
      */
     public void destroy() {
         scheduler.shutdown();
@@ -226,6 +420,9 @@ public class JwtCacheService {
             scheduler.shutdownNow();
             Thread.currentThread().interrupt();
         }
+        tokenCache.invalidateAll();
+        nicknameCache.invalidateAll();
+        userTokenIndex.clear();
         log.info("JWT 캐시 서비스 종료 완료");
     }
-} 
\ No newline at end of file
+}
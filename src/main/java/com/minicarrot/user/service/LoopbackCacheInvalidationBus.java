@@ -0,0 +1,49 @@
+package com.minicarrot.user.service;
+
+import com.minicarrot.user.config.CacheInvalidationProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 프로세스 내부 무효화 버스
+ * - 브로커 없이 같은 JVM 안에서 시작된 버스 인스턴스끼리 배치를 주고받음 (각 버스가 하나의 인스턴스 역할)
+ * - 발행 시점에 로컬 무효화가 이미 반영되므로 자기 발신 배치는 자기 구독자에게 다시 전달되지 않음
+ * - 단일 인스턴스 운영 및 테스트용 기본 구현
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "app.cache.invalidation.transport", havingValue = "loopback", matchIfMissing = true)
+public class LoopbackCacheInvalidationBus extends BatchingCacheInvalidationBus {
+
+    // 같은 JVM 안의 버스 연결 (start ~ stop 사이의 버스만 수신)
+    private static final List<LoopbackCacheInvalidationBus> CHANNEL = new CopyOnWriteArrayList<>();
+
+    public LoopbackCacheInvalidationBus(CacheInvalidationProperties properties) {
+        super(properties);
+    }
+
+    @Override
+    public void start() {
+        CHANNEL.add(this);
+        super.start();
+    }
+
+    @Override
+    public void stop() {
+        // 남은 요청을 마저 보낸 뒤 연결 해제
+        super.stop();
+        CHANNEL.remove(this);
+    }
+
+    @Override
+    protected void send(Topic topic, long[] ids) {
+        log.debug("캐시 무효화 루프백 전달: topic={}, {}건, 수신 버스={}개", topic, ids.length, CHANNEL.size());
+        for (LoopbackCacheInvalidationBus bus : CHANNEL) {
+            bus.deliver(getInstanceId(), topic, ids);
+        }
+    }
+}
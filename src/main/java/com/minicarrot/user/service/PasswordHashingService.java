@@ -0,0 +1,137 @@
+package com.minicarrot.user.service;
+
+import com.minicarrot.user.common.Constants.ErrorMessage;
+import com.minicarrot.user.common.ServiceOverloadedException;
+import com.minicarrot.user.config.PasswordHashingProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 해시 전용 실행기
+ * - BCrypt 같은 CPU 집약 연산을 코어 수만큼의 전용 스레드에서만 실행
+ * - 대기열이 가득 차면 기다리지 않고 ServiceOverloadedException으로 즉시 거절 (503)
+ * - 호출 측은 DB 트랜잭션 밖에서 호출해야 해시 동안 커넥션을 점유하지 않음
+ */
+@Slf4j
+@Service
+public class PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingProperties properties;
+    private final ThreadPoolExecutor executor;
+    private final PasswordEncoder offloadingEncoder = new OffloadingPasswordEncoder();
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder, PasswordHashingProperties properties,
+                                  MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.properties = properties;
+
+        int threads = properties.getThreads() > 0 ? properties.getThreads() : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        new ExecutorServiceMetrics(executor, "password.hashing", Tags.empty()).bindTo(meterRegistry);
+        log.info("비밀번호 해시 실행기 초기화: threads={}, queueCapacity={}", threads, properties.getQueueCapacity());
+    }
+
+    @PreDestroy
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    public String encode(String rawPassword) {
+        return execute(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return execute(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 백그라운드 해시 - 요청 스레드는 기다리지 않음, 대기열이 가득 차면 실패한 future 반환
+     */
+    public CompletableFuture<String> encodeAsync(String rawPassword) {
+        try {
+            return CompletableFuture.supplyAsync(() -> passwordEncoder.encode(rawPassword), executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(new ServiceOverloadedException(ErrorMessage.SERVICE_OVERLOADED, e));
+        }
+    }
+
+    /**
+     * 저장된 해시가 현재 알고리즘/강도보다 약한지 (해시 연산 없이 접두사와 파라미터만 확인)
+     */
+    public boolean needsUpgrade(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * 엔티티 도메인 메서드에 넘기는 PasswordEncoder - 실제 연산은 전용 실행기에서 수행
+     */
+    public PasswordEncoder asPasswordEncoder() {
+        return offloadingEncoder;
+    }
+
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            log.warn("비밀번호 해시 대기열 초과: active={}, queued={}", executor.getActiveCount(), executor.getQueue().size());
+            throw new ServiceOverloadedException(ErrorMessage.SERVICE_OVERLOADED, e);
+        }
+
+        try {
+            return future.get(properties.getTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("비밀번호 해시 대기 시간 초과: timeout={}", properties.getTimeout());
+            throw new ServiceOverloadedException(ErrorMessage.SERVICE_OVERLOADED, e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceOverloadedException(ErrorMessage.SERVICE_OVERLOADED, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private final class OffloadingPasswordEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return PasswordHashingService.this.encode(rawPassword.toString());
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return PasswordHashingService.this.matches(rawPassword.toString(), encodedPassword);
+        }
+    }
+}
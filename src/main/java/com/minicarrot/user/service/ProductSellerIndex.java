@@ -0,0 +1,292 @@
+package com.minicarrot.user.service;
+
+import com.minicarrot.user.config.ProductIndexProperties;
+import com.minicarrot.user.dto.ProductSummaryDto;
+import com.minicarrot.user.util.ConcurrentLongMap;
+import com.minicarrot.user.util.ProductCatalogParser;
+import com.minicarrot.user.service.CacheInvalidationBus.Topic;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+/**
+ * 판매자별 상품 로컬 인덱스 (읽기 모델)
+ * - 시작 시 Product Service 상품 목록을 페이지 단위로 적재
+ * - 이후 ProductEventController로 들어오는 상품 이벤트로 증분 갱신
+ * - 사용자별 조회는 전체 목록 필터링 대신 본인 상품만 조회
+ * - 판매자별 목록은 불변 스냅샷으로 교체 (읽기는 락 없이 목록 그대로 반환)
+ * - 이벤트 반영은 읽기 락, 재적재 시작/교체는 쓰기 락 - 교체 도중 들어온 이벤트가 어느 인덱스에서도 누락되지 않음
+ * - 재적재 중 들어온 이벤트는 기록해 두었다가 교체 직전 새 인덱스에 다시 반영 (적재된 상류 상태가 이벤트를 덮어쓰지 않도록)
+ * - 이벤트는 받은 인스턴스에만 들어오므로 판매자 ID를 무효화 버스로 전파 - 다른 인스턴스는 해당 판매자를 다시 읽을 때까지 stale로 표시
+ * - 적재 시 응답을 스트리밍으로 읽어 상품을 바로 인덱스에 넣음 (페이지 전체를 Map으로 만들지 않음)
+ */
+@Slf4j
+@Service
+public class ProductSellerIndex {
+
+    private final RestTemplate restTemplate;
+    private final ProductCatalogParser catalogParser;
+    private final ProductIndexProperties properties;
+    private final String productServiceUrl;
+    private final CacheInvalidationBus invalidationBus;
+
+    private volatile ConcurrentLongMap<List<ProductSummaryDto>> productsBySeller = new ConcurrentLongMap<>();
+    // 재적재 중 들어온 이벤트 (재적재 중에만 non-null) - 교체 직전 새 인덱스에 순서대로 다시 반영
+    private volatile Queue<PendingUpdate> pendingUpdates;
+    private volatile boolean ready;
+
+    // 이벤트 반영(읽기 락)과 인덱스 교체(쓰기 락) 사이의 순서 보장 - 이벤트끼리는 동시에 반영
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+
+    // 다른 인스턴스에서 변경 알림을 받았지만 아직 다시 읽지 않은 판매자 (판매자 ID -> 표시 번호)
+    private final Map<Long, Long> staleSellers = new ConcurrentHashMap<>();
+    private final AtomicLong staleMarks = new AtomicLong();
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "product-index-loader");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ProductSellerIndex(RestTemplate restTemplate, ProductCatalogParser catalogParser,
+                              ProductIndexProperties properties,
+                              @Value("${app.product-service.url:http://product-service:8082}") String productServiceUrl,
+                              CacheInvalidationBus invalidationBus) {
+        this.restTemplate = restTemplate;
+        this.catalogParser = catalogParser;
+        this.properties = properties;
+        this.productServiceUrl = productServiceUrl;
+        this.invalidationBus = invalidationBus;
+        invalidationBus.subscribe(Topic.SELLER_PRODUCTS,
+                sellerId -> staleSellers.put(sellerId, staleMarks.incrementAndGet()));
+    }
+
+    @PostConstruct
+    public void init() {
+        if (properties.isEnabled()) {
+            // Product Service가 늦게 떠도 애플리케이션 시작을 막지 않도록 백그라운드 적재
+            scheduler.execute(this::reseed);
+        }
+    }
+
+    @PreDestroy
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 초기 적재가 끝나 인덱스 조회를 신뢰할 수 있는지
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 판매자의 상품 목록 (최신 등록순)
+     */
+    public List<ProductSummaryDto> getProducts(long sellerId) {
+        List<ProductSummaryDto> products = productsBySeller.get(sellerId);
+        return products != null ? products : List.of();
+    }
+
+    public int size() {
+        return productsBySeller.size();
+    }
+
+    /**
+     * 다른 인스턴스에서 변경된 뒤 아직 다시 읽지 않은 판매자면 표시 번호, 최신이면 null
+     * - 호출자는 Product Service에서 직접 읽은 뒤 같은 번호로 refreshSeller 호출
+     */
+    public Long staleMark(long sellerId) {
+        return staleSellers.get(sellerId);
+    }
+
+    /**
+     * 직접 읽은 판매자 상품 목록으로 교체 - 읽는 동안 새 변경 알림이 오지 않았을 때만 최신으로 표시
+     */
+    public void refreshSeller(long sellerId, List<ProductSummaryDto> products, long mark) {
+        List<ProductSummaryDto> snapshot = List.copyOf(products);
+        apply(sellerId, current -> snapshot);
+        staleSellers.remove(sellerId, mark);
+    }
+
+    /**
+     * 상품 등록 이벤트 반영
+     */
+    public void onProductRegistered(long sellerId, long productId, String title) {
+        ProductSummaryDto product = ProductSummaryDto.builder()
+                .productId(productId)
+                .title(title)
+                .sellerId(sellerId)
+                .status("AVAILABLE")
+                .build();
+
+        apply(sellerId, current -> {
+            List<ProductSummaryDto> next = new ArrayList<>(current.size() + 1);
+            next.add(product);
+            current.stream().filter(existing -> !Objects.equals(existing.getProductId(), productId)).forEach(next::add);
+            return next;
+        });
+        invalidationBus.publish(Topic.SELLER_PRODUCTS, sellerId);
+    }
+
+    /**
+     * 상품 상태 변경 이벤트 반영 - productId가 없으면 상품명으로 대상 식별
+     */
+    public void onProductStatusChanged(long sellerId, Long productId, String title, String newStatus) {
+        if (productId == null && title == null) {
+            return;
+        }
+        apply(sellerId, current -> current.stream()
+                .map(product -> (productId != null ? Objects.equals(product.getProductId(), productId) : Objects.equals(product.getTitle(), title))
+                        ? product.toBuilder().status(newStatus).build()
+                        : product)
+                .toList());
+        invalidationBus.publish(Topic.SELLER_PRODUCTS, sellerId);
+    }
+
+    /**
+     * 상품 구매 이벤트 반영 - 판매자 상품을 판매완료로 표시
+     */
+    public void onProductPurchased(long sellerId, long productId) {
+        onProductStatusChanged(sellerId, productId, null, "SOLD");
+    }
+
+    /**
+     * 전체 재적재 - 새 인덱스를 만든 뒤 한 번에 교체
+     * - 시작 전에 받은 stale 표시는 이번 적재가 해소 (적재 중에 받은 표시는 유지)
+     */
+    void reseed() {
+        ConcurrentLongMap<List<ProductSummaryDto>> next = new ConcurrentLongMap<>();
+        Queue<PendingUpdate> pending = new ConcurrentLinkedQueue<>();
+        Map<Long, Long> staleBefore = Map.copyOf(staleSellers);
+        withLock(swapLock.writeLock(), () -> pendingUpdates = pending);
+        try {
+            int loaded = loadAllPages(next);
+            withLock(swapLock.writeLock(), () -> {
+                // 적재 중 들어온 이벤트를 적재 결과 위에 다시 반영한 뒤 교체
+                pending.forEach(update -> next.compute(update.sellerId(), update.remapping()));
+                productsBySeller = next;
+                pendingUpdates = null;
+            });
+            staleBefore.forEach(staleSellers::remove);
+            ready = true;
+            log.info("판매자별 상품 인덱스 적재 완료: 상품={}개, 판매자={}명", loaded, next.size());
+            schedule(properties.getReseedInterval().toMillis());
+        } catch (Exception e) {
+            log.warn("판매자별 상품 인덱스 적재 실패 - {}초 후 재시도: error={}",
+                    properties.getRetryInterval().toSeconds(), e.getMessage());
+            schedule(properties.getRetryInterval().toMillis());
+        } finally {
+            withLock(swapLock.writeLock(), () -> pendingUpdates = null);
+        }
+    }
+
+    private static void withLock(Lock lock, Runnable action) {
+        lock.lock();
+        try {
+            action.run();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void schedule(long delayMillis) {
+        if (!scheduler.isShutdown()) {
+            scheduler.schedule(this::reseed, delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 페이지 단위 적재 - 페이징을 지원하지 않는 응답(전체 목록)이면 첫 페이지로 종료
+     */
+    private int loadAllPages(ConcurrentLongMap<List<ProductSummaryDto>> target) {
+        int size = properties.getPageSize();
+        int loaded = 0;
+        Long previousFirstId = null;
+
+        for (int page = 0; page < properties.getMaxPages(); page++) {
+            AtomicReference<Long> firstId = new AtomicReference<>();
+            int count = fetchPage(page, size, product -> {
+                firstId.compareAndSet(null, product.getProductId());
+                add(target, product);
+            });
+            loaded += count;
+
+            if (count == 0 || count != size) {
+                break;
+            }
+            if (page > 0 && Objects.equals(firstId.get(), previousFirstId)) {
+                break;
+            }
+            previousFirstId = firstId.get();
+        }
+        return loaded;
+    }
+
+    private int fetchPage(int page, int size, Consumer<ProductSummaryDto> sink) {
+        String url = productServiceUrl + "/api/products?page=" + page + "&size=" + size;
+        Integer count = restTemplate.execute(url, HttpMethod.GET, null,
+                response -> catalogParser.parse(response.getBody(), product -> product.resolveSellerId() != null, sink));
+        return count != null ? count : 0;
+    }
+
+    /**
+     * 페이지 경계에서 중복으로 받은 상품은 한 번만 추가
+     */
+    private static void add(ConcurrentLongMap<List<ProductSummaryDto>> target, ProductSummaryDto product) {
+        Long productId = product.getProductId();
+        target.compute(product.resolveSellerId(), (key, current) -> {
+            if (current == null) {
+                return List.of(product);
+            }
+            if (productId != null && current.stream().anyMatch(existing -> productId.equals(existing.getProductId()))) {
+                return current;
+            }
+            List<ProductSummaryDto> next = new ArrayList<>(current.size() + 1);
+            next.addAll(current);
+            next.add(product);
+            return List.copyOf(next);
+        });
+    }
+
+    private void apply(long sellerId, UnaryOperator<List<ProductSummaryDto>> update) {
+        ConcurrentLongMap.Remapping<List<ProductSummaryDto>> remapping =
+                (key, current) -> List.copyOf(update.apply(current != null ? current : List.of()));
+        withLock(swapLock.readLock(), () -> {
+            productsBySeller.compute(sellerId, remapping);
+            Queue<PendingUpdate> pending = pendingUpdates;
+            if (pending != null) {
+                pending.add(new PendingUpdate(sellerId, remapping));
+            }
+        });
+    }
+
+    /**
+     * 재적재 중 반영된 갱신 - 같은 갱신을 다시 적용해도 결과가 같음 (등록은 같은 ID를 교체, 상태 변경은 값 지정)
+     */
+    private record PendingUpdate(long sellerId, ConcurrentLongMap.Remapping<List<ProductSummaryDto>> remapping) {
+    }
+}
@@ -1,16 +1,29 @@
 package com.minicarrot.user.service;
 
 import com.minicarrot.user.dto.ProductStatsDto;
+import com.minicarrot.user.dto.ProductSummaryDto;
+import com.minicarrot.user.dto.RecentActivityDto;
+import com.minicarrot.user.util.ProductCatalogParser;
+import com.minicarrot.user.util.SingleFlightCache;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -18,11 +31,34 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ProductServiceClient {
 
-    private final RestTemplate restTemplate;
+    private final CloseableHttpClient productServiceHttpClient;
+    private final ProductSellerIndex productSellerIndex;
+    private final ProductCatalogParser catalogParser;
+
+    // 서킷 오픈/동시 호출 초과 시 타임아웃까지 기다리지 않고 즉시 기본값으로 대체
+    private final CircuitBreaker productServiceCircuitBreaker;
+    private final Bulkhead productStatsBulkhead;
+    private final Bulkhead productListBulkhead;
+
+    // 타임아웃별 RestTemplate (모두 같은 커넥션 풀 공유, 타임아웃 종류가 몇 개뿐이라 한 번만 생성)
+    private final Map<Integer, RestTemplate> timeoutRestTemplates = new ConcurrentHashMap<>();
     
     @Value("${app.product-service.url:http://product-service:8082}")
     private String productServiceUrl;
 
+    @Value("${app.product-service.result-cache-ttl:3s}")
+    private Duration resultCacheTtl;
+
+    // 동시 동일 요청 합치기 + 짧은 결과 캐시
+    private SingleFlightCache<Long, ProductStatsDto> statsCache;
+    private SingleFlightCache<Long, List<ProductSummaryDto>> productsCache;
+
+    @PostConstruct
+    public void init() {
+        statsCache = new SingleFlightCache<>(resultCacheTtl, 10_000);
+        productsCache = new SingleFlightCache<>(resultCacheTtl, 10_000);
+    }
+
     /**
      * 사용자별 상품 통계 조회 (타임아웃 적용)
      */
@@ -30,27 +66,22 @@ public class ProductServiceClient {
         try {
             log.info("Product Service에서 사용자 통계 조회 (타임아웃 {}ms): userId={}", timeoutMs, userId);
             
-            // 타임아웃 설정된 RestTemplate 생성
-            RestTemplate timeoutRestTemplate = createTimeoutRestTemplate(timeoutMs);
-            
-            // Product Service API 호출
-            String url = productServiceUrl + "/api/products/stats/" + userId;
-            Map<String, Object> response = timeoutRestTemplate.getForObject(url, Map.class);
-            
-            if (response != null && Boolean.TRUE.equals(response.get("success"))) {
-                Map<String, Object> data = (Map<String, Object>) response.get("data");
+            // 같은 사용자에 대한 동시 요청은 한 번만 호출
+            ProductStatsDto stats = statsCache.get(userId, () -> protect(productStatsBulkhead, () -> {
+                // 타임아웃 설정된 RestTemplate 조회 (공유 커넥션 풀 사용)
+                RestTemplate timeoutRestTemplate = getTimeoutRestTemplate(timeoutMs);
                 
-                return ProductStatsDto.builder()
-                        .userId(userId)
-                        .registeredProducts((Integer) data.getOrDefault("registeredCount", 0))
-                        .purchasedProducts((Integer) data.getOrDefault("purchasedCount", 0))
-                        .soldProducts((Integer) data.getOrDefault("soldCount", 0))
-                        .totalTransactions((Integer) data.getOrDefault("totalTransactions", 0))
-                        .totalSales(((Number) data.getOrDefault("totalSalesAmount", 0.0)).doubleValue())
-                        .totalPurchases(((Number) data.getOrDefault("totalPurchaseAmount", 0.0)).doubleValue())
-                        .build();
+                // Product Service API 호출
+                String url = productServiceUrl + "/api/products/stats/" + userId;
+                return toProductStats(userId, timeoutRestTemplate.getForObject(url, Map.class));
+            }), Duration.ofMillis(timeoutMs));
+            
+            if (stats != null) {
+                return stats;
             }
             
+        } catch (CallNotPermittedException | BulkheadFullException e) {
+            log.debug("Product Service 호출 차단 - 기본값 사용: userId={}, reason={}", userId, e.getMessage());
         } catch (Exception e) {
             log.warn("Product Service 연동 실패 (타임아웃): userId={}, error={}", userId, e.getMessage());
         }
@@ -62,63 +93,49 @@ public class ProductServiceClient {
     /**
      * 사용자가 등록한 상품 목록 조회 (타임아웃 적용)
      */
-    public List<Map<String, Object>> getUserProductsWithTimeout(Long userId, int timeoutMs) {
+    public List<ProductSummaryDto> getUserProductsWithTimeout(Long userId, int timeoutMs) {
+        // 로컬 인덱스가 준비되었고 다른 인스턴스에서 바뀐 판매자가 아니면 본인 상품만 바로 조회
+        Long staleMark = productSellerIndex.staleMark(userId);
+        boolean indexReady = productSellerIndex.isReady();
+        if (indexReady && staleMark == null) {
+            return productSellerIndex.getProducts(userId);
+        }
+        
         try {
             log.info("사용자 등록 상품 조회 (타임아웃 {}ms): userId={}", timeoutMs, userId);
             
-            // 타임아웃 설정된 RestTemplate 생성
-            RestTemplate timeoutRestTemplate = createTimeoutRestTemplate(timeoutMs);
-            
-            // 전체 상품 목록을 가져와서 userId로 필터링
-            String url = productServiceUrl + "/api/products";
-            Map<String, Object> response = timeoutRestTemplate.getForObject(url, Map.class);
-            
-            if (response != null && Boolean.TRUE.equals(response.get("success"))) {
-                List<Map<String, Object>> allProducts = (List<Map<String, Object>>) response.get("data");
-                
-                // userId로 필터링 (sellerId 또는 userId 필드 확인)
-                List<Map<String, Object>> userProducts = allProducts.stream()
-                    .filter(product -> {
-                        Object sellerId = product.get("sellerId");
-                        Object productUserId = product.get("userId");
-                        return (sellerId != null && sellerId.equals(userId.intValue())) ||
-                               (productUserId != null && productUserId.equals(userId.intValue()));
-                    })
-                    .collect(Collectors.toList());
-                
-                log.info("사용자 등록 상품 필터링 완료: userId={}, 전체={}개, 필터링={}개", 
-                    userId, allProducts.size(), userProducts.size());
-                
-                return userProducts;
+            // 인덱스를 쓸 수 없을 때만 전체 목록을 스트리밍으로 읽어 본인 상품만 보관 (같은 사용자 동시 요청은 한 번만 호출)
+            List<ProductSummaryDto> products = productsCache.get(userId,
+                    () -> protect(productListBulkhead, () -> fetchSellerProducts(userId, timeoutMs)), Duration.ofMillis(timeoutMs));
+            if (products != null) {
+                if (staleMark != null) {
+                    productSellerIndex.refreshSeller(userId, products, staleMark);
+                }
+                return products;
             }
             
+        } catch (CallNotPermittedException | BulkheadFullException e) {
+            log.debug("Product Service 호출 차단 - 기존 목록 사용: userId={}, reason={}", userId, e.getMessage());
         } catch (Exception e) {
             log.warn("사용자 상품 조회 실패 (타임아웃): userId={}, error={}", userId, e.getMessage());
         }
         
-        return List.of();
+        // 실패 시 인덱스 값(준비 전이면 빈 목록)으로 대체
+        return indexReady ? productSellerIndex.getProducts(userId) : List.of();
     }
 
     /**
      * 최근 활동 내역 조회 (타임아웃 적용)
      */
-    public List<Map<String, Object>> getRecentActivityWithTimeout(Long userId, int timeoutMs) {
+    public List<RecentActivityDto> getRecentActivityWithTimeout(Long userId, int timeoutMs) {
         try {
             log.info("최근 활동 내역 조회 (타임아웃 {}ms): userId={}", timeoutMs, userId);
             
             // 최근 활동은 등록한 상품 기반으로 생성
-            List<Map<String, Object>> userProducts = getUserProductsWithTimeout(userId, timeoutMs);
+            List<ProductSummaryDto> userProducts = getUserProductsWithTimeout(userId, timeoutMs);
             
             // 최근 5개 상품을 활동으로 변환
-            List<Map<String, Object>> activities = userProducts.stream()
-                .limit(5)
-                .map(product -> Map.of(
-                    "type", "product_registered",
-                    "message", String.format("'%s' 상품을 등록했습니다.", product.get("title")),
-                    "productId", product.get("productId"),
-                    "timestamp", System.currentTimeMillis() - (long)(Math.random() * 86400000) // 임시 타임스탬프
-                ))
-                .collect(Collectors.toList());
+            List<RecentActivityDto> activities = toRecentActivity(userProducts);
             
             return activities;
             
@@ -130,13 +147,35 @@ public class ProductServiceClient {
     }
 
     /**
-     * 타임아웃이 설정된 RestTemplate 생성
+     * 전체 상품 목록에서 판매자 본인 상품만 조회
+     * - 응답 본문을 스트리밍으로 파싱하며 해당 판매자 상품만 남김 (Map 트리/전체 목록을 만들지 않음)
+     * - 실패 응답은 예외가 되어 캐시하지 않음
+     */
+    private List<ProductSummaryDto> fetchSellerProducts(Long sellerId, int timeoutMs) {
+        RestTemplate timeoutRestTemplate = getTimeoutRestTemplate(timeoutMs);
+        return timeoutRestTemplate.execute(productServiceUrl + "/api/products", HttpMethod.GET, null,
+                response -> catalogParser.parseForSeller(response.getBody(), sellerId));
+    }
+
+    /**
+     * 서킷 브레이커 + 엔드포인트 벌크헤드를 거쳐 호출
+     * - 벌크헤드 거절은 서킷 실패율에 포함하지 않음 (ProductServiceResilienceConfig)
+     */
+    private <T> T protect(Bulkhead bulkhead, Callable<T> call) throws Exception {
+        return productServiceCircuitBreaker.executeCallable(() -> bulkhead.executeCallable(call));
+    }
+
+    /**
+     * 타임아웃이 설정된 RestTemplate 조회
+     * - 응답 대기/풀 대기 시간만 요청별로 적용하고 커넥션은 공유 풀에서 재사용
      */
-    private RestTemplate createTimeoutRestTemplate(int timeoutMs) {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(timeoutMs);
-        factory.setReadTimeout(timeoutMs);
-        return new RestTemplate(factory);
+    private RestTemplate getTimeoutRestTemplate(int timeoutMs) {
+        return timeoutRestTemplates.computeIfAbsent(timeoutMs, timeout -> {
+            HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory(productServiceHttpClient);
+            factory.setReadTimeout(timeout);
+            factory.setConnectionRequestTimeout(timeout);
+            return new RestTemplate(factory);
+        });
     }
 
     /**
@@ -149,7 +188,7 @@ public class ProductServiceClient {
     /**
      * 사용자가 등록한 상품 목록 조회
      */
-    public List<Map<String, Object>> getUserProducts(Long userId) {
+    public List<ProductSummaryDto> getUserProducts(Long userId) {
         return getUserProductsWithTimeout(userId, 5000); // 기본 5초 타임아웃
     }
 
@@ -176,7 +215,48 @@ public class ProductServiceClient {
     /**
      * 최근 활동 내역 조회
      */
-    public List<Map<String, Object>> getRecentActivity(Long userId) {
+    public List<RecentActivityDto> getRecentActivity(Long userId) {
         return getRecentActivityWithTimeout(userId, 5000); // 기본 5초 타임아웃
     }
-} 
\ No newline at end of file
+
+    /**
+     * 통계 응답 변환 (blocking/reactive 클라이언트 공용) - 실패 응답이면 null
+     */
+    @SuppressWarnings("unchecked")
+    static ProductStatsDto toProductStats(Long userId, Map<String, Object> response) {
+        if (response == null || !Boolean.TRUE.equals(response.get("success"))) {
+            return null;
+        }
+        return toProductStatsData(userId, (Map<String, Object>) response.get("data"));
+    }
+
+    /**
+     * 통계 data 객체 변환 (단건/일괄 응답 공용)
+     */
+    static ProductStatsDto toProductStatsData(Long userId, Map<String, Object> data) {
+        return ProductStatsDto.builder()
+                .userId(userId)
+                .registeredProducts((Integer) data.getOrDefault("registeredCount", 0))
+                .purchasedProducts((Integer) data.getOrDefault("purchasedCount", 0))
+                .soldProducts((Integer) data.getOrDefault("soldCount", 0))
+                .totalTransactions((Integer) data.getOrDefault("totalTransactions", 0))
+                .totalSales(((Number) data.getOrDefault("totalSalesAmount", 0.0)).doubleValue())
+                .totalPurchases(((Number) data.getOrDefault("totalPurchaseAmount", 0.0)).doubleValue())
+                .build();
+    }
+
+    /**
+     * 등록 상품 기반 최근 활동 생성 (최근 5개)
+     */
+    static List<RecentActivityDto> toRecentActivity(List<ProductSummaryDto> userProducts) {
+        return userProducts.stream()
+            .limit(5)
+            .map(product -> RecentActivityDto.builder()
+                .type("product_registered")
+                .message(String.format("'%s' 상품을 등록했습니다.", product.getTitle()))
+                .productId(product.getProductId())
+                .timestamp(System.currentTimeMillis() - (long)(Math.random() * 86400000)) // 임시 타임스탬프
+                .build())
+            .collect(Collectors.toList());
+    }
+}
\ No newline at end of file
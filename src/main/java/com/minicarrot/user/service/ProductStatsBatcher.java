@@ -0,0 +1,136 @@
+package com.minicarrot.user.service;
+
+import com.minicarrot.user.config.ProductStatsBatchProperties;
+import com.minicarrot.user.dto.ProductStatsDto;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자별 상품 통계 micro-batching
+ * - window 동안 들어온 단건/일괄 요청을 모아 Product Service 일괄 조회 한 번으로 처리
+ * - 같은 사용자에 대한 동시 요청은 하나의 결과를 공유
+ * - 실패 시에도 예외 대신 기본 통계로 완료 (기존 단건 조회와 같은 대체 규칙)
+ */
+@Slf4j
+@Service
+public class ProductStatsBatcher {
+
+    private final ReactiveProductServiceClient reactiveProductServiceClient;
+    private final ProductStatsBatchProperties properties;
+    private final DistributionSummary batchSize;
+
+    private final Object lock = new Object();
+    private Map<Long, CompletableFuture<ProductStatsDto>> pending = new HashMap<>();
+    private ScheduledFuture<?> scheduledFlush;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "product-stats-batcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ProductStatsBatcher(ReactiveProductServiceClient reactiveProductServiceClient,
+                               ProductStatsBatchProperties properties,
+                               MeterRegistry meterRegistry) {
+        this.reactiveProductServiceClient = reactiveProductServiceClient;
+        this.properties = properties;
+        this.batchSize = DistributionSummary.builder("product.stats.batch.size")
+                .description("Product Service 일괄 통계 조회 1회당 사용자 수")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 사용자 한 명의 통계 - 다른 요청과 합쳐 조회
+     */
+    public CompletableFuture<ProductStatsDto> load(Long userId) {
+        synchronized (lock) {
+            return enqueue(userId);
+        }
+    }
+
+    /**
+     * 여러 사용자의 통계 - 요청 순서대로 담은 Map
+     */
+    public CompletableFuture<Map<Long, ProductStatsDto>> loadAll(Collection<Long> userIds) {
+        Map<Long, CompletableFuture<ProductStatsDto>> futures = new LinkedHashMap<>();
+        synchronized (lock) {
+            userIds.forEach(userId -> futures.put(userId, enqueue(userId)));
+        }
+
+        return CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> {
+                    Map<Long, ProductStatsDto> result = new LinkedHashMap<>();
+                    futures.forEach((userId, future) -> result.put(userId, future.join()));
+                    return result;
+                });
+    }
+
+    private CompletableFuture<ProductStatsDto> enqueue(Long userId) {
+        CompletableFuture<ProductStatsDto> future = pending.computeIfAbsent(userId, id -> new CompletableFuture<>());
+
+        if (pending.size() >= properties.getMaxBatchSize()) {
+            // 가득 찬 배치는 window를 기다리지 않고 바로 호출 (완료 콜백이 락 안에서 돌지 않도록 스케줄러에서)
+            Map<Long, CompletableFuture<ProductStatsDto>> batch = drain();
+            scheduler.execute(() -> dispatch(batch));
+        } else if (scheduledFlush == null) {
+            scheduledFlush = scheduler.schedule(this::flush,
+                    properties.getWindow().toNanos(), TimeUnit.NANOSECONDS);
+        }
+        return future;
+    }
+
+    private void flush() {
+        Map<Long, CompletableFuture<ProductStatsDto>> batch;
+        synchronized (lock) {
+            batch = drain();
+        }
+        dispatch(batch);
+    }
+
+    private Map<Long, CompletableFuture<ProductStatsDto>> drain() {
+        Map<Long, CompletableFuture<ProductStatsDto>> batch = pending;
+        pending = new HashMap<>();
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        return batch;
+    }
+
+    /**
+     * 일괄 조회는 논블로킹으로 구독만 하므로 락/스케줄러 스레드를 점유하지 않음
+     */
+    private void dispatch(Map<Long, CompletableFuture<ProductStatsDto>> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        batchSize.record(batch.size());
+
+        reactiveProductServiceClient.getUserProductStatsBatch(batch.keySet(), properties.getTimeout())
+                .subscribe(
+                    stats -> batch.forEach((userId, future) ->
+                            future.complete(stats.getOrDefault(userId, ProductStatsDto.createDefault(userId)))),
+                    throwable -> {
+                        log.warn("사용자 통계 일괄 조회 실패: users={}, error={}", batch.size(), throwable.getMessage());
+                        batch.forEach((userId, future) -> future.complete(ProductStatsDto.createDefault(userId)));
+                    });
+    }
+}
@@ -0,0 +1,75 @@
+package com.minicarrot.user.service;
+
+import com.minicarrot.user.config.CacheInvalidationProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.nio.ByteBuffer;
+
+/**
+ * RabbitMQ 기반 클러스터 무효화 버스
+ * - fanout 익스체인지로 모든 인스턴스에 사용자 ID 배치를 전파
+ * - 본문은 ID(8바이트 long) 배열, 주제는 헤더로 전달 (헤더가 없으면 USER), 자기 인스턴스가 보낸 메시지는 무시
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "app.cache.invalidation.transport", havingValue = "rabbit")
+public class RabbitCacheInvalidationBus extends BatchingCacheInvalidationBus {
+
+    private static final String ORIGIN_HEADER = "x-origin-instance";
+    private static final String TOPIC_HEADER = "x-invalidation-topic";
+
+    private final RabbitTemplate rabbitTemplate;
+    private final CacheInvalidationProperties properties;
+
+    public RabbitCacheInvalidationBus(RabbitTemplate rabbitTemplate, CacheInvalidationProperties properties) {
+        super(properties);
+        this.rabbitTemplate = rabbitTemplate;
+        this.properties = properties;
+    }
+
+    @Override
+    protected void send(Topic topic, long[] ids) {
+        ByteBuffer body = ByteBuffer.allocate(ids.length * Long.BYTES);
+        for (long id : ids) {
+            body.putLong(id);
+        }
+
+        Message message = MessageBuilder.withBody(body.array())
+                .setContentType(MessageProperties.CONTENT_TYPE_BYTES)
+                .setHeader(ORIGIN_HEADER, getInstanceId())
+                .setHeader(TOPIC_HEADER, topic.name())
+                .build();
+        rabbitTemplate.send(properties.getExchange(), "", message);
+        log.debug("캐시 무효화 전파: topic={}, {}건", topic, ids.length);
+    }
+
+    @RabbitListener(queues = "#{cacheInvalidationQueue.name}")
+    public void onMessage(Message message) {
+        Object origin = message.getMessageProperties().getHeader(ORIGIN_HEADER);
+        Object topicHeader = message.getMessageProperties().getHeader(TOPIC_HEADER);
+        Topic topic;
+        try {
+            topic = topicHeader != null ? Topic.valueOf(topicHeader.toString()) : Topic.USER;
+        } catch (IllegalArgumentException e) {
+            // 새 버전 인스턴스가 보낸 알 수 없는 주제는 무시
+            log.debug("알 수 없는 캐시 무효화 주제 무시: {}", topicHeader);
+            return;
+        }
+
+        ByteBuffer body = ByteBuffer.wrap(message.getBody());
+        long[] ids = new long[body.remaining() / Long.BYTES];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = body.getLong();
+        }
+
+        log.debug("원격 캐시 무효화 수신: topic={}, {}건", topic, ids.length);
+        deliver(origin != null ? origin.toString() : null, topic, ids);
+    }
+}
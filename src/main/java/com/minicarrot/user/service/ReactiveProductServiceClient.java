@@ -0,0 +1,274 @@
+package com.minicarrot.user.service;
+
+import com.minicarrot.user.config.ProductStatsBatchProperties;
+import com.minicarrot.user.dto.ProductStatsDto;
+import com.minicarrot.user.dto.ProductSummaryDto;
+import com.minicarrot.user.dto.RecentActivityDto;
+import com.minicarrot.user.util.ProductCatalogParser;
+import com.minicarrot.user.util.SingleFlightCache;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Product Service 논블로킹 클라이언트
+ * - ProductServiceClient와 같은 API/변환 규칙, 결과를 Mono로 반환
+ * - 실패/타임아웃 시 blocking 클라이언트와 동일하게 기본값으로 대체
+ * - blocking 클라이언트와 같은 서킷 브레이커/벌크헤드를 공유 (Product Service 상태는 하나)
+ * - 상품 목록은 로컬 인덱스(ProductSellerIndex)를 쓸 수 없을 때만 호출 - 본문을 모으지 않고 스트리밍으로 읽으며 본인 상품만 남김
+ */
+@Slf4j
+@Service
+public class ReactiveProductServiceClient {
+
+    private static final ParameterizedTypeReference<Map<String, Object>> RESPONSE_TYPE =
+            new ParameterizedTypeReference<>() {};
+
+    // 상품 목록 스트리밍 시 미리 요청해 두는 버퍼 수
+    private static final int CATALOG_PREFETCH = 4;
+
+    private final WebClient productServiceWebClient;
+    private final ProductSellerIndex productSellerIndex;
+    private final ProductCatalogParser catalogParser;
+    private final CircuitBreaker productServiceCircuitBreaker;
+    private final Bulkhead productStatsBulkhead;
+    private final Bulkhead productListBulkhead;
+    private final ProductStatsBatchProperties batchProperties;
+
+    // 일괄 조회 API 미지원(404/405/415/501)이 확인되면 이후로는 바로 사용자별 병렬 호출
+    // - 429/401/403/408 등 그 밖의 오류는 일시적 실패로 보고 전환하지 않음 (과부하 중에 N배 호출로 바뀌지 않도록)
+    private volatile boolean bulkStatsSupported = true;
+
+    // 동시 동일 요청 합치기 + 짧은 결과 캐시
+    private final SingleFlightCache<Long, Map<String, Object>> statsCache;
+    private final SingleFlightCache<Long, List<ProductSummaryDto>> productsCache;
+
+    public ReactiveProductServiceClient(WebClient productServiceWebClient,
+                                        ProductSellerIndex productSellerIndex,
+                                        ProductCatalogParser catalogParser,
+                                        CircuitBreaker productServiceCircuitBreaker,
+                                        Bulkhead productStatsBulkhead,
+                                        Bulkhead productListBulkhead,
+                                        ProductStatsBatchProperties batchProperties,
+                                        @Value("${app.product-service.result-cache-ttl:3s}") Duration resultCacheTtl) {
+        this.productServiceWebClient = productServiceWebClient;
+        this.productSellerIndex = productSellerIndex;
+        this.catalogParser = catalogParser;
+        this.productServiceCircuitBreaker = productServiceCircuitBreaker;
+        this.productStatsBulkhead = productStatsBulkhead;
+        this.productListBulkhead = productListBulkhead;
+        this.batchProperties = batchProperties;
+        this.statsCache = new SingleFlightCache<>(resultCacheTtl, 10_000);
+        this.productsCache = new SingleFlightCache<>(resultCacheTtl, 10_000);
+    }
+
+    /**
+     * 사용자별 상품 통계 조회
+     */
+    public Mono<ProductStatsDto> getUserProductStats(Long userId, Duration timeout) {
+        return shared(statsCache, userId, () -> protect(productStatsBulkhead, get("/api/products/stats/{userId}", timeout, userId))
+                        // 실패 응답은 캐시하지 않음
+                        .filter(response -> Boolean.TRUE.equals(response.get("success"))))
+                .mapNotNull(response -> ProductServiceClient.toProductStats(userId, response))
+                .onErrorResume(e -> {
+                    logFailure("Product Service 연동 실패 (타임아웃)", userId, e);
+                    return Mono.empty();
+                })
+                .defaultIfEmpty(ProductStatsDto.createDefault(userId));
+    }
+
+    /**
+     * 여러 사용자의 상품 통계 일괄 조회 - 결과에 없는 사용자는 기본값
+     * - Product Service 일괄 API 한 번으로 조회, API가 없으면 제한된 병렬 단건 호출로 대체
+     */
+    public Mono<Map<Long, ProductStatsDto>> getUserProductStatsBatch(Collection<Long> userIds, Duration timeout) {
+        if (userIds.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+
+        Mono<Map<Long, ProductStatsDto>> bulk = bulkStatsSupported && !batchProperties.getBulkPath().isBlank()
+                ? fetchStatsBulk(userIds, timeout)
+                : Mono.empty();
+
+        return bulk
+                .switchIfEmpty(Mono.defer(() -> fetchStatsFanOut(userIds, timeout)))
+                .map(stats -> {
+                    Map<Long, ProductStatsDto> result = new HashMap<>(stats);
+                    userIds.forEach(userId -> result.computeIfAbsent(userId, ProductStatsDto::createDefault));
+                    return result;
+                });
+    }
+
+    /**
+     * 일괄 API 호출 - data는 userId를 키로 하는 객체 또는 userId 필드를 가진 배열
+     * - API 미지원이면 empty로 끝나 병렬 단건 호출로 대체, 그 밖의 실패는 빈 결과(기본값)
+     */
+    @SuppressWarnings("unchecked")
+    private Mono<Map<Long, ProductStatsDto>> fetchStatsBulk(Collection<Long> userIds, Duration timeout) {
+        Mono<Map<String, Object>> call = productServiceWebClient.post()
+                .uri(batchProperties.getBulkPath())
+                .bodyValue(Map.of("userIds", userIds))
+                .retrieve()
+                .bodyToMono(RESPONSE_TYPE)
+                .timeout(timeout);
+
+        // 병렬 단건 호출과 같은 통계 벌크헤드로 동시 호출 수 제한
+        return protect(productStatsBulkhead, call)
+                .filter(response -> Boolean.TRUE.equals(response.get("success")))
+                .map(response -> {
+                    Map<Long, ProductStatsDto> stats = new HashMap<>();
+                    Object data = response.get("data");
+                    if (data instanceof Map<?, ?> byUser) {
+                        byUser.forEach((key, value) -> {
+                            Long userId = Long.valueOf(String.valueOf(key));
+                            stats.put(userId, ProductServiceClient.toProductStatsData(userId, (Map<String, Object>) value));
+                        });
+                    } else if (data instanceof List<?> items) {
+                        for (Object item : items) {
+                            Map<String, Object> entry = (Map<String, Object>) item;
+                            if (entry.get("userId") instanceof Number userId) {
+                                stats.put(userId.longValue(), ProductServiceClient.toProductStatsData(userId.longValue(), entry));
+                            }
+                        }
+                    }
+                    return stats;
+                })
+                .onErrorResume(e -> {
+                    if (e instanceof WebClientResponseException response && isBulkUnsupported(response.getStatusCode().value())) {
+                        bulkStatsSupported = false;
+                        log.info("Product Service 일괄 통계 API 미지원({}) - 사용자별 병렬 조회로 전환", response.getStatusCode().value());
+                        return Mono.empty();
+                    }
+                    // 장애/과부하 중에 단건 호출을 N번 더 보내지 않도록 기본값으로 대체 (모드 전환 없음)
+                    if (e instanceof CallNotPermittedException || e instanceof BulkheadFullException) {
+                        log.debug("Product Service 일괄 통계 호출 차단 - 기본값 사용: users={}, reason={}", userIds.size(), e.getMessage());
+                    } else {
+                        log.warn("Product Service 일괄 통계 조회 실패: users={}, error={}", userIds.size(), e.getMessage());
+                    }
+                    return Mono.just(Map.of());
+                });
+    }
+
+    private static boolean isBulkUnsupported(int status) {
+        return status == 404 || status == 405 || status == 415 || status == 501;
+    }
+
+    /**
+     * 사용자별 단건 조회를 동시 호출 수를 제한해 병렬 수행 (단건 캐시/벌크헤드 그대로 적용)
+     */
+    private Mono<Map<Long, ProductStatsDto>> fetchStatsFanOut(Collection<Long> userIds, Duration timeout) {
+        return Flux.fromIterable(userIds)
+                .flatMap(userId -> getUserProductStats(userId, timeout), batchProperties.getFanOutConcurrency())
+                .collectMap(ProductStatsDto::getUserId);
+    }
+
+    /**
+     * 사용자가 등록한 상품 목록 조회
+     */
+    public Mono<List<ProductSummaryDto>> getUserProducts(Long userId, Duration timeout) {
+        // 로컬 인덱스가 준비되었고 다른 인스턴스에서 바뀐 판매자가 아니면 원격 호출 없이 본인 상품만 조회
+        Long staleMark = productSellerIndex.staleMark(userId);
+        boolean indexReady = productSellerIndex.isReady();
+        if (indexReady && staleMark == null) {
+            return Mono.just(productSellerIndex.getProducts(userId));
+        }
+
+        // 직접 읽은 결과로 인덱스의 해당 판매자를 갱신, 실패하면 인덱스 값(없으면 빈 목록)으로 대체
+        List<ProductSummaryDto> fallback = indexReady ? productSellerIndex.getProducts(userId) : List.of();
+        return shared(productsCache, userId, () -> protect(productListBulkhead, fetchSellerProducts(userId, timeout)))
+                .doOnNext(products -> {
+                    if (staleMark != null) {
+                        productSellerIndex.refreshSeller(userId, products, staleMark);
+                    }
+                })
+                .onErrorResume(e -> {
+                    logFailure("사용자 상품 조회 실패 (타임아웃)", userId, e);
+                    return Mono.empty();
+                })
+                .defaultIfEmpty(fallback);
+    }
+
+    /**
+     * 최근 활동 내역 조회 (등록 상품 기반)
+     */
+    public Mono<List<RecentActivityDto>> getRecentActivity(Long userId, Duration timeout) {
+        return getUserProducts(userId, timeout).map(ProductServiceClient::toRecentActivity);
+    }
+
+    /**
+     * 진행 중/캐시된 호출을 공유 - 한 구독자가 취소해도 공유 호출은 취소하지 않음
+     */
+    private static <K, V> Mono<V> shared(SingleFlightCache<K, V> cache, K key, Supplier<Mono<V>> call) {
+        return Mono.fromFuture(() -> cache.getAsync(key, () -> call.get().toFuture()), true);
+    }
+
+    /**
+     * 서킷 오픈/벌크헤드 거절은 예상된 차단이므로 debug로만 기록
+     */
+    private static void logFailure(String message, Long userId, Throwable e) {
+        if (e instanceof CallNotPermittedException || e instanceof BulkheadFullException) {
+            log.debug("Product Service 호출 차단 - 기본값 사용: userId={}, reason={}", userId, e.getMessage());
+            return;
+        }
+        log.warn("{}: userId={}, error={}", message, userId, e.getMessage());
+    }
+
+    /**
+     * 서킷 브레이커 + 엔드포인트 벌크헤드 적용 - 차단 시 즉시 에러로 끝나 기본값으로 대체
+     */
+    private <T> Mono<T> protect(Bulkhead bulkhead, Mono<T> call) {
+        return call
+                .transformDeferred(BulkheadOperator.of(bulkhead))
+                .transformDeferred(CircuitBreakerOperator.of(productServiceCircuitBreaker));
+    }
+
+    /**
+     * 전체 상품 목록에서 판매자 본인 상품만 조회
+     * - 본문 버퍼를 모으지 않고 InputStream으로 이어 받아 토큰 단위로 파싱 (버퍼는 읽는 즉시 반환, 미리 받는 버퍼는 CATALOG_PREFETCH개)
+     * - 읽기가 블로킹이므로 boundedElastic에서 수행, 버퍼 사이 대기 시간도 timeout으로 제한해 읽는 스레드가 묶이지 않도록 함
+     */
+    private Mono<List<ProductSummaryDto>> fetchSellerProducts(Long sellerId, Duration timeout) {
+        return Mono.fromCallable(() -> {
+                    Flux<DataBuffer> body = productServiceWebClient.get()
+                            .uri("/api/products")
+                            .retrieve()
+                            .bodyToFlux(DataBuffer.class)
+                            .timeout(timeout);
+                    try (InputStream in = DataBufferUtils.subscriberInputStream(body, CATALOG_PREFETCH)) {
+                        return catalogParser.parseForSeller(in, sellerId);
+                    }
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .timeout(timeout);
+    }
+
+    private Mono<Map<String, Object>> get(String uri, Duration timeout, Object... uriVariables) {
+        return productServiceWebClient.get()
+                .uri(uri, uriVariables)
+                .retrieve()
+                .bodyToMono(RESPONSE_TYPE)
+                .timeout(timeout);
+    }
+}
@@ -0,0 +1,152 @@
+package com.minicarrot.user.service;
+
+import com.minicarrot.user.common.Constants.ErrorMessage;
+import com.minicarrot.user.config.RefreshTokenProperties;
+import com.minicarrot.user.entity.RefreshToken;
+import com.minicarrot.user.repository.RefreshTokenRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 리프레시 토큰 발급/회전
+ * - 토큰 원문은 256비트 난수, DB에는 SHA-256 해시만 저장
+ * - 회전 시 기존 토큰은 사용 처리하고 같은 family로 새 토큰 발급
+ * - 사용된 토큰이 다시 제출되면 family 전체 폐기 (탈취된 토큰 재사용 차단)
+ * - 회전되지 않고 폐기만 된 토큰(로그아웃 등)은 재사용이 아니라 단순히 유효하지 않은 토큰으로 처리
+ */
+@Slf4j
+@Service
+public class RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenProperties properties;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "refresh-token-cleanup");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository, RefreshTokenProperties properties) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.properties = properties;
+    }
+
+    /**
+     * 회전 결과 - 토큰 소유자와 새 리프레시 토큰 원문
+     */
+    public record Rotation(Long userId, String refreshToken) {
+    }
+
+    @PostConstruct
+    public void init() {
+        long cleanupMillis = properties.getCleanupInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::cleanupSafely, cleanupMillis, cleanupMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 로그인 시 새 family로 리프레시 토큰 발급
+     */
+    @Transactional
+    public String issue(Long userId) {
+        return issue(userId, UUID.randomUUID().toString());
+    }
+
+    /**
+     * 리프레시 토큰 회전
+     * - 재사용 감지로 family를 폐기한 뒤 예외를 던지므로 폐기 내역은 롤백하지 않음
+     */
+    @Transactional(noRollbackFor = IllegalArgumentException.class)
+    public Rotation rotate(String rawToken) {
+        RefreshToken current = refreshTokenRepository.findByTokenHashForUpdate(hash(rawToken))
+                .orElseThrow(() -> new IllegalArgumentException(ErrorMessage.INVALID_REFRESH_TOKEN));
+
+        if (current.isRotated()) {
+            int revoked = refreshTokenRepository.revokeFamily(current.getFamilyId());
+            log.warn("리프레시 토큰 재사용 감지 - family 폐기: userId={}, 폐기 수={}", current.getUserId(), revoked);
+            throw new IllegalArgumentException(ErrorMessage.REFRESH_TOKEN_REUSED);
+        }
+        if (current.isRevoked()) {
+            log.debug("폐기된 리프레시 토큰 제출: userId={}", current.getUserId());
+            throw new IllegalArgumentException(ErrorMessage.INVALID_REFRESH_TOKEN);
+        }
+        if (current.isExpired(LocalDateTime.now())) {
+            throw new IllegalArgumentException(ErrorMessage.INVALID_REFRESH_TOKEN);
+        }
+
+        current.markUsed();
+        String next = issue(current.getUserId(), current.getFamilyId());
+        return new Rotation(current.getUserId(), next);
+    }
+
+    /**
+     * 특정 리프레시 토큰의 family 폐기 (로그아웃)
+     */
+    @Transactional
+    public void revokeFamily(String rawToken) {
+        refreshTokenRepository.findById(hash(rawToken))
+                .ifPresent(token -> refreshTokenRepository.revokeFamily(token.getFamilyId()));
+    }
+
+    /**
+     * 사용자의 모든 리프레시 토큰 폐기 (비밀번호 변경)
+     */
+    @Transactional
+    public void revokeAllForUser(Long userId) {
+        int revoked = refreshTokenRepository.revokeAllByUserId(userId);
+        log.info("리프레시 토큰 전체 폐기: userId={}, 폐기 수={}", userId, revoked);
+    }
+
+    private String issue(Long userId, String familyId) {
+        byte[] random = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(random);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(random);
+
+        LocalDateTime expiresAt = LocalDateTime.now().plus(properties.getTtl());
+        refreshTokenRepository.save(RefreshToken.of(hash(rawToken), familyId, userId, expiresAt));
+        return rawToken;
+    }
+
+    private void cleanupSafely() {
+        try {
+            int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+            if (deleted > 0) {
+                log.info("만료된 리프레시 토큰 삭제: {}건", deleted);
+            }
+        } catch (Exception e) {
+            log.warn("만료된 리프레시 토큰 삭제 실패: {}", e.getMessage());
+        }
+    }
+
+    private static String hash(String rawToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(rawToken.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.minicarrot.user.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.minicarrot.user.common.Constants.ErrorMessage;
+import com.minicarrot.user.common.ServiceOverloadedException;
+import com.minicarrot.user.config.TokenRevocationProperties;
+import com.minicarrot.user.entity.RevokedToken;
+import com.minicarrot.user.repository.RevokedTokenRepository;
+import com.minicarrot.user.util.BloomFilter;
+import com.minicarrot.user.util.JwtClaims;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 폐기 목록 서비스
+ * - 폐기된 토큰(jti)은 DB에 영속화하고, 메모리의 블룸 필터를 앞단에 둠
+ * - 대부분의 요청은 블룸 필터 조회 한 번으로 "폐기되지 않음"을 확정
+ * - 필터가 "있을 수 있음"이라고 답한 경우에만 DB에서 재확인 (오탐 결과도 캐싱)
+ * - DB 장애 시 jwt.revocation.fail-closed 설정에 따라 거절(기본) 또는 허용
+ * - 다른 인스턴스의 폐기 내역은 주기적으로 증분 동기화, 만료 항목은 필터 재생성으로 정리
+ */
+@Slf4j
+@Service
+public class TokenRevocationService {
+
+    // 증분 동기화 시 인스턴스 간 시계 차이를 흡수하기 위한 중첩 구간
+    private static final Duration SYNC_OVERLAP = Duration.ofSeconds(5);
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final TokenRevocationProperties properties;
+
+    private volatile BloomFilter filter;
+    private volatile LocalDateTime lastSyncedAt;
+
+    // 필터 양성 토큰의 DB 확인 결과 (true: 폐기, false: 필터 오탐), 같은 토큰의 반복 요청 시 DB 재조회 방지
+    // - false 항목은 증분 동기화에서 폐기가 확인되면 true로 교체
+    private final Cache<String, Boolean> confirmedRevocations = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofHours(1))
+            .build();
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "token-revocation-sync");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public TokenRevocationService(RevokedTokenRepository revokedTokenRepository, TokenRevocationProperties properties) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.properties = properties;
+        this.filter = newFilter();
+    }
+
+    @PostConstruct
+    public void init() {
+        rebuildSafely();
+
+        long syncMillis = properties.getSyncInterval().toMillis();
+        long rebuildMillis = properties.getRebuildInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::syncSafely, syncMillis, syncMillis, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::rebuildSafely, rebuildMillis, rebuildMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 토큰 폐기 (만료 시각까지 유효)
+     */
+    public void revoke(JwtClaims claims) {
+        if (claims.tokenId() == null) {
+            // jti 도입 이전에 발급된 토큰은 개별 폐기 불가 - 만료까지 유효
+            log.warn("jti 없는 토큰은 폐기할 수 없음: userId={}", claims.userId());
+            return;
+        }
+
+        if (!revokedTokenRepository.existsById(claims.tokenId())) {
+            revokedTokenRepository.save(RevokedToken.of(claims.tokenId(), claims.userId(), toLocalDateTime(claims.expiresAtMillis())));
+        }
+        // 확인 캐시를 먼저 채워야 동시에 진행 중인 필터 재생성에서도 누락되지 않음
+        confirmedRevocations.put(claims.tokenId(), Boolean.TRUE);
+        filter.put(claims.tokenId());
+        log.info("토큰 폐기 완료: userId={}", claims.userId());
+    }
+
+    /**
+     * 폐기 여부 확인 - 필터 미포함이면 DB 조회 없이 즉시 false
+     * - DB 조회 실패 시 fail-closed면 ServiceOverloadedException(503), 아니면 false (결과는 캐싱하지 않음)
+     */
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null || !filter.mightContain(tokenId)) {
+            return false;
+        }
+        Boolean confirmed = confirmedRevocations.getIfPresent(tokenId);
+        if (confirmed != null) {
+            return confirmed;
+        }
+
+        boolean revoked;
+        try {
+            revoked = revokedTokenRepository.existsById(tokenId);
+        } catch (DataAccessException e) {
+            if (properties.isFailClosed()) {
+                log.warn("폐기 목록 조회 실패 - 요청 거절: error={}", e.getMessage());
+                throw new ServiceOverloadedException(ErrorMessage.AUTHENTICATION_UNAVAILABLE, e);
+            }
+            log.warn("폐기 목록 조회 실패 - 폐기되지 않은 것으로 처리: error={}", e.getMessage());
+            return false;
+        }
+        confirmedRevocations.put(tokenId, revoked);
+        return revoked;
+    }
+
+    /**
+     * 다른 인스턴스에서 추가된 폐기 내역을 필터에 반영 (증분)
+     */
+    void syncRecentRevocations() {
+        LocalDateTime since = lastSyncedAt;
+        if (since == null) {
+            rebuild();
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<String> tokenIds = revokedTokenRepository.findTokenIdsRevokedSince(since.minus(SYNC_OVERLAP), now);
+        BloomFilter current = filter;
+        tokenIds.forEach(tokenId -> {
+            current.put(tokenId);
+            // 오탐으로 캐싱된 토큰이 그 사이 폐기되었으면 결과 교체
+            confirmedRevocations.asMap().replace(tokenId, Boolean.FALSE, Boolean.TRUE);
+        });
+        lastSyncedAt = now;
+
+        if (current.isSaturated()) {
+            log.info("폐기 목록 블룸 필터 용량 초과 - 재생성: 삽입 수={}", current.getInsertions());
+            rebuild();
+        } else if (!tokenIds.isEmpty()) {
+            log.debug("폐기 목록 증분 동기화: {}건", tokenIds.size());
+        }
+    }
+
+    /**
+     * 만료되지 않은 폐기 항목만으로 필터 재생성 후 교체, 만료 항목은 DB에서 삭제
+     */
+    void rebuild() {
+        LocalDateTime now = LocalDateTime.now();
+        int deleted = revokedTokenRepository.deleteExpired(now);
+        List<String> activeTokenIds = revokedTokenRepository.findActiveTokenIds(now);
+
+        BloomFilter rebuilt = newFilter(activeTokenIds.size());
+        activeTokenIds.forEach(rebuilt::put);
+        filter = rebuilt;
+        // 재생성 도중 이 인스턴스에서 폐기된 토큰을 새 필터에 다시 반영
+        confirmedRevocations.asMap().forEach((tokenId, revoked) -> {
+            if (revoked) {
+                rebuilt.put(tokenId);
+            }
+        });
+        lastSyncedAt = now;
+
+        log.info("폐기 목록 블룸 필터 재생성: 활성={}건, 만료 삭제={}건, 비트={}", 
+            activeTokenIds.size(), deleted, rebuilt.getBitCount());
+    }
+
+    private BloomFilter newFilter() {
+        return newFilter(0);
+    }
+
+    /**
+     * 설계 용량은 설정값과 현재 활성 건수의 2배 중 큰 값
+     */
+    private BloomFilter newFilter(int activeCount) {
+        long capacity = Math.max(properties.getExpectedRevocations(), activeCount * 2L);
+        return new BloomFilter(capacity, properties.getFalsePositiveRate());
+    }
+
+    private void syncSafely() {
+        try {
+            syncRecentRevocations();
+        } catch (Exception e) {
+            log.warn("폐기 목록 동기화 실패: error={}", e.getMessage());
+        }
+    }
+
+    private void rebuildSafely() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("폐기 목록 블룸 필터 재생성 실패: error={}", e.getMessage());
+        }
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        if (epochMillis == Long.MAX_VALUE) {
+            return LocalDateTime.of(9999, 12, 31, 0, 0);
+        }
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
@@ -8,15 +8,17 @@ import com.minicarrot.user.dto.UserRegisterRequest;
 import com.minicarrot.user.dto.UserResponse;
 import com.minicarrot.user.entity.User;
 import com.minicarrot.user.repository.UserRepository;
+import com.minicarrot.user.util.JwtClaims;
 import com.minicarrot.user.util.JwtUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -25,14 +27,19 @@ import java.util.stream.Collectors;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtUtil jwtUtil;
     private final UserEventPublisher userEventPublisher;
+    private final TokenRevocationService tokenRevocationService;
+    private final JwtCacheService jwtCacheService;
+    private final RefreshTokenService refreshTokenService;
+    @Qualifier("passwordRehashExecutor")
+    private final Executor passwordRehashExecutor;
 
     /**
      * 사용자 등록
+     * - 해시 계산 동안 DB 커넥션을 잡지 않도록 메서드 전체 트랜잭션은 두지 않음
      */
-    @Transactional
     public UserResponse register(UserRegisterRequest request) {
         log.info("회원가입 시도: email={}, nickname={}", request.getEmail(), request.getNickname());
         
@@ -53,7 +60,7 @@ public class UserService {
                 request.getEmail(),
                 request.getPassword(),
                 request.getNickname(),
-                passwordEncoder
+                passwordHashingService.asPasswordEncoder()
         );
 
         User savedUser = userRepository.save(user);
@@ -81,7 +88,9 @@ public class UserService {
 
 
 
-    @Transactional(readOnly = true)
+    /**
+     * 로그인 - 조회/발급은 각각 짧은 트랜잭션, 비밀번호 검증은 트랜잭션 밖에서 전용 실행기로 수행
+     */
     public TokenResponse login(UserLoginRequest request) {
         log.info("로그인 시도: email={}", request.getEmail());
         
@@ -92,43 +101,82 @@ public class UserService {
                 });
 
         // 엔티티의 도메인 메서드 사용
-        if (!user.isPasswordMatched(request.getPassword(), passwordEncoder)) {
+        if (!user.isPasswordMatched(request.getPassword(), passwordHashingService.asPasswordEncoder())) {
             log.warn("비밀번호 불일치: email={}", request.getEmail());
             throw new IllegalArgumentException(ErrorMessage.INVALID_PASSWORD);
         }
 
+        if (passwordHashingService.needsUpgrade(user.getPassword())) {
+            rehashInBackground(user.getUserId(), request.getPassword(), user.getPassword());
+        }
+
         String token = jwtUtil.generateToken(user.getEmail(), user.getUserId(), user.getNickname());
+        String refreshToken = refreshTokenService.issue(user.getUserId());
         log.info("로그인 성공: userId={}, email={}", user.getUserId(), user.getEmail());
         
         // TokenResponse에 토큰과 사용자 정보 모두 포함
+        return toTokenResponse(user, token, refreshToken);
+    }
+
+    /**
+     * 리프레시 토큰으로 액세스 토큰 재발급 (비밀번호 검증 없음)
+     * - 회전은 자체 트랜잭션에서 처리 (재사용 감지 시 family 폐기가 롤백되지 않도록 여기서는 트랜잭션을 열지 않음)
+     */
+    public TokenResponse refresh(String refreshToken) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(refreshToken);
+
+        User user = userRepository.findById(rotation.userId())
+                .orElseThrow(() -> new IllegalArgumentException(ErrorMessage.USER_NOT_FOUND));
+
+        String token = jwtUtil.generateToken(user.getEmail(), user.getUserId(), user.getNickname());
+        log.info("토큰 재발급 성공: userId={}", user.getUserId());
+
+        return toTokenResponse(user, token, rotation.refreshToken());
+    }
+
+    /**
+     * 이전 알고리즘/강도의 해시를 현재 설정으로 교체 (응답 지연 없음)
+     * - 그 사이 비밀번호가 바뀌었으면 CAS 갱신이 0건이 되어 덮어쓰지 않음
+     * - 실행기가 포화 상태면 건너뛰고 다음 로그인에서 재시도
+     * - DB 갱신은 해시 전용 스레드가 아닌 재해시 실행기에서 수행
+     */
+    private void rehashInBackground(Long userId, String rawPassword, String previousHash) {
+        passwordHashingService.encodeAsync(rawPassword)
+                .thenAcceptAsync(newHash -> {
+                    if (userRepository.updatePasswordIfUnchanged(userId, previousHash, newHash) > 0) {
+                        log.info("비밀번호 해시 업그레이드 완료: userId={}", userId);
+                    }
+                }, passwordRehashExecutor)
+                .exceptionally(e -> {
+                    log.debug("비밀번호 해시 업그레이드 건너뜀: userId={}, error={}", userId, e.getMessage());
+                    return null;
+                });
+    }
+
+    private TokenResponse toTokenResponse(User user, String token, String refreshToken) {
         UserResponse userResponse = UserResponse.builder()
                 .userId(user.getUserId())
                 .email(user.getEmail())
                 .nickname(user.getNickname())
                 .build();
-        
+
         return TokenResponse.builder()
                 .token(token)
+                .refreshToken(refreshToken)
                 .user(userResponse)
                 .build();
     }
 
 
 
+    /**
+     * 프로필 조회 - 토큰 검증은 JwtAuthenticationFilter에서 완료된 상태
+     */
     @Transactional(readOnly = true)
-    public UserResponse getProfile(String token) {
-        // Bearer 토큰에서 실제 토큰 추출
-        String actualToken = token.replace("Bearer ", "");
-        
-        if (!jwtUtil.isTokenValid(actualToken)) {
-            log.warn("유효하지 않은 토큰");
-            throw new IllegalArgumentException(ErrorMessage.INVALID_TOKEN);
-        }
-
-        String email = jwtUtil.getEmailFromToken(actualToken);
-        User user = userRepository.findByEmail(email)
+    public UserResponse getProfile(Long userId) {
+        User user = userRepository.findById(userId)
                 .orElseThrow(() -> {
-                    log.warn("토큰의 사용자를 찾을 수 없음: email={}", email);
+                    log.warn("토큰의 사용자를 찾을 수 없음: userId={}", userId);
                     return new IllegalArgumentException(ErrorMessage.USER_NOT_FOUND);
                 });
 
@@ -143,15 +191,8 @@ public class UserService {
 
     // 닉네임 변경 메서드 추가
     @Transactional
-    public UserResponse changeNickname(String token, String newNickname) {
-        String actualToken = token.replace("Bearer ", "");
-        
-        if (!jwtUtil.isTokenValid(actualToken)) {
-            throw new IllegalArgumentException(ErrorMessage.INVALID_TOKEN);
-        }
-
-        String email = jwtUtil.getEmailFromToken(actualToken);
-        User user = userRepository.findByEmail(email)
+    public UserResponse changeNickname(Long userId, String newNickname) {
+        User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException(ErrorMessage.USER_NOT_FOUND));
 
         // 닉네임 중복 검사
@@ -190,24 +231,41 @@ public class UserService {
 
 
     // 비밀번호 변경 메서드 추가
-    @Transactional
-    public void changePassword(String token, String currentPassword, String newPassword) {
-        String actualToken = token.replace("Bearer ", "");
-        
-        if (!jwtUtil.isTokenValid(actualToken)) {
-            throw new IllegalArgumentException(ErrorMessage.INVALID_TOKEN);
-        }
-
-        String email = jwtUtil.getEmailFromToken(actualToken);
-        User user = userRepository.findByEmail(email)
+    // - 검증/해시는 트랜잭션 밖에서 수행하고, 저장은 읽은 해시가 그대로일 때만 교체
+    public void changePassword(Long userId, String currentPassword, String newPassword) {
+        User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException(ErrorMessage.USER_NOT_FOUND));
 
+        String previousHash = user.getPassword();
+
         // 엔티티의 도메인 메서드 사용
-        user.changePassword(currentPassword, newPassword, passwordEncoder);
+        user.changePassword(currentPassword, newPassword, passwordHashingService.asPasswordEncoder());
+
+        if (userRepository.updatePasswordIfUnchanged(userId, previousHash, user.getPassword()) == 0) {
+            throw new IllegalArgumentException(ErrorMessage.PASSWORD_CHANGED_CONCURRENTLY);
+        }
+
+        // 다른 기기의 세션이 리프레시로 계속 유지되지 않도록 전체 폐기
+        refreshTokenService.revokeAllForUser(user.getUserId());
         
         log.info("비밀번호 변경 성공: userId={}", user.getUserId());
     }
 
+    /**
+     * 로그아웃 - 현재 토큰을 만료 전에 폐기, 리프레시 토큰이 함께 오면 해당 family도 폐기
+     */
+    public void logout(String token, String refreshToken) {
+        String actualToken = token.replace("Bearer ", "");
+        JwtClaims claims = jwtUtil.verifyToken(actualToken);
+
+        tokenRevocationService.revoke(claims);
+        if (refreshToken != null && !refreshToken.isBlank()) {
+            refreshTokenService.revokeFamily(refreshToken);
+        }
+        jwtCacheService.invalidateToken(actualToken);
+        log.info("로그아웃 성공: userId={}", claims.userId());
+    }
+
     /**
      * 모든 사용자 조회
      */
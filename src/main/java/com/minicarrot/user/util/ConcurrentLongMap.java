@@ -0,0 +1,328 @@
+package com.minicarrot.user.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * long 키 전용 동시성 맵
+ * - 키를 박싱하지 않는 개방 주소법(선형 탐사) 해시 테이블
+ * - 테이블을 여러 스트라이프로 나누고 스트라이프 단위로 잠가 락 경합 분산
+ * - compute 계열 연산은 해당 키의 스트라이프 락 안에서 원자적으로 실행
+ * - null 값은 저장하지 않음 (compute 결과가 null이면 항목 제거)
+ */
+public class ConcurrentLongMap<V> {
+
+    private static final int DEFAULT_CONCURRENCY = 16;
+    private static final int INITIAL_STRIPE_CAPACITY = 16;
+
+    private final Stripe<V>[] stripes;
+    private final int stripeShift;
+
+    public ConcurrentLongMap() {
+        this(DEFAULT_CONCURRENCY);
+    }
+
+    @SuppressWarnings("unchecked")
+    public ConcurrentLongMap(int concurrency) {
+        int stripeCount = concurrency <= 1 ? 1 : Integer.highestOneBit(concurrency - 1) << 1;
+        this.stripes = (Stripe<V>[]) new Stripe<?>[stripeCount];
+        this.stripeShift = 64 - Integer.numberOfTrailingZeros(stripeCount);
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe<>();
+        }
+    }
+
+    @FunctionalInterface
+    public interface Remapping<V> {
+        V apply(long key, V current);
+    }
+
+    @FunctionalInterface
+    public interface EntryConsumer<V> {
+        void accept(long key, V value);
+    }
+
+    @FunctionalInterface
+    public interface EntryPredicate<V> {
+        boolean test(long key, V value);
+    }
+
+    public V get(long key) {
+        long hash = mix(key);
+        Stripe<V> stripe = stripeFor(hash);
+        synchronized (stripe) {
+            return stripe.get(key, hash);
+        }
+    }
+
+    public boolean containsKey(long key) {
+        return get(key) != null;
+    }
+
+    public V put(long key, V value) {
+        requireValue(value);
+        long hash = mix(key);
+        Stripe<V> stripe = stripeFor(hash);
+        synchronized (stripe) {
+            return stripe.put(key, hash, value);
+        }
+    }
+
+    public V remove(long key) {
+        long hash = mix(key);
+        Stripe<V> stripe = stripeFor(hash);
+        synchronized (stripe) {
+            return stripe.remove(key, hash);
+        }
+    }
+
+    /**
+     * 현재 값(없으면 null)으로 새 값을 계산하여 저장, null이면 제거
+     */
+    public V compute(long key, Remapping<V> remapping) {
+        long hash = mix(key);
+        Stripe<V> stripe = stripeFor(hash);
+        synchronized (stripe) {
+            V current = stripe.get(key, hash);
+            V next = remapping.apply(key, current);
+            if (next == null) {
+                if (current != null) {
+                    stripe.remove(key, hash);
+                }
+            } else if (next != current) {
+                stripe.put(key, hash, next);
+            }
+            return next;
+        }
+    }
+
+    /**
+     * 값이 있을 때만 새 값을 계산, null이면 제거
+     */
+    public V computeIfPresent(long key, Remapping<V> remapping) {
+        long hash = mix(key);
+        Stripe<V> stripe = stripeFor(hash);
+        synchronized (stripe) {
+            V current = stripe.get(key, hash);
+            if (current == null) {
+                return null;
+            }
+            V next = remapping.apply(key, current);
+            if (next == null) {
+                stripe.remove(key, hash);
+            } else if (next != current) {
+                stripe.put(key, hash, next);
+            }
+            return next;
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe<V> stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size;
+            }
+        }
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * 스트라이프 단위로 잠그며 순회 (전체 스냅샷은 아님)
+     */
+    public void forEach(EntryConsumer<V> consumer) {
+        for (Stripe<V> stripe : stripes) {
+            synchronized (stripe) {
+                stripe.forEach(consumer);
+            }
+        }
+    }
+
+    public int removeIf(EntryPredicate<V> predicate) {
+        int removed = 0;
+        for (Stripe<V> stripe : stripes) {
+            synchronized (stripe) {
+                removed += stripe.removeIf(predicate);
+            }
+        }
+        return removed;
+    }
+
+    public List<V> values() {
+        List<V> values = new ArrayList<>();
+        forEach((key, value) -> values.add(value));
+        return values;
+    }
+
+    public void clear() {
+        for (Stripe<V> stripe : stripes) {
+            synchronized (stripe) {
+                stripe.clear();
+            }
+        }
+    }
+
+    private Stripe<V> stripeFor(long hash) {
+        // 상위 비트로 스트라이프 선택, 하위 비트로 슬롯 선택
+        return stripes[stripes.length == 1 ? 0 : (int) (hash >>> stripeShift)];
+    }
+
+    private static void requireValue(Object value) {
+        if (value == null) {
+            throw new IllegalArgumentException("null 값은 저장할 수 없습니다.");
+        }
+    }
+
+    /**
+     * 64비트 해시 믹싱 (MurmurHash3 fmix64)
+     */
+    private static long mix(long key) {
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * 스트라이프 - 단일 락으로 보호되는 개방 주소법 테이블 (부하율 0.5 이하 유지)
+     */
+    private static final class Stripe<V> {
+        private long[] keys = new long[INITIAL_STRIPE_CAPACITY];
+        private Object[] values = new Object[INITIAL_STRIPE_CAPACITY];
+        private int size;
+
+        V get(long key, long hash) {
+            int index = indexOf(key, hash);
+            return index >= 0 ? value(index) : null;
+        }
+
+        V put(long key, long hash, V value) {
+            int index = indexOf(key, hash);
+            if (index >= 0) {
+                V previous = value(index);
+                values[index] = value;
+                return previous;
+            }
+            int slot = -index - 1;
+            keys[slot] = key;
+            values[slot] = value;
+            if (++size * 2 > keys.length) {
+                resize();
+            }
+            return null;
+        }
+
+        V remove(long key, long hash) {
+            int index = indexOf(key, hash);
+            if (index < 0) {
+                return null;
+            }
+            V previous = value(index);
+            removeAt(index);
+            return previous;
+        }
+
+        void forEach(EntryConsumer<V> consumer) {
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] != null) {
+                    consumer.accept(keys[i], value(i));
+                }
+            }
+        }
+
+        int removeIf(EntryPredicate<V> predicate) {
+            int removed = 0;
+            int i = 0;
+            while (i < values.length) {
+                if (values[i] != null && predicate.test(keys[i], value(i))) {
+                    // 뒤쪽 항목이 현재 슬롯으로 당겨질 수 있으므로 같은 슬롯을 다시 검사
+                    removeAt(i);
+                    removed++;
+                } else {
+                    i++;
+                }
+            }
+            return removed;
+        }
+
+        void clear() {
+            keys = new long[INITIAL_STRIPE_CAPACITY];
+            values = new Object[INITIAL_STRIPE_CAPACITY];
+            size = 0;
+        }
+
+        /**
+         * 키가 있으면 슬롯 인덱스, 없으면 -(삽입 위치 + 1)
+         */
+        private int indexOf(long key, long hash) {
+            int mask = keys.length - 1;
+            int index = (int) hash & mask;
+            while (values[index] != null) {
+                if (keys[index] == key) {
+                    return index;
+                }
+                index = (index + 1) & mask;
+            }
+            return -(index + 1);
+        }
+
+        /**
+         * 삭제 후 뒤따르는 항목을 당겨와 탐사 체인 유지 (backward shift deletion)
+         */
+        private void removeAt(int index) {
+            int mask = keys.length - 1;
+            values[index] = null;
+            size--;
+
+            int hole = index;
+            int next = index;
+            while (true) {
+                next = (next + 1) & mask;
+                if (values[next] == null) {
+                    return;
+                }
+                int ideal = (int) mix(keys[next]) & mask;
+                boolean reachable = hole <= next
+                        ? (ideal <= hole || ideal > next)
+                        : (ideal <= hole && ideal > next);
+                if (reachable) {
+                    keys[hole] = keys[next];
+                    values[hole] = values[next];
+                    values[next] = null;
+                    hole = next;
+                }
+            }
+        }
+
+        private void resize() {
+            long[] oldKeys = keys;
+            Object[] oldValues = values;
+            keys = new long[oldKeys.length * 2];
+            values = new Object[oldValues.length * 2];
+
+            int mask = keys.length - 1;
+            for (int i = 0; i < oldValues.length; i++) {
+                if (oldValues[i] != null) {
+                    int index = (int) mix(oldKeys[i]) & mask;
+                    while (values[index] != null) {
+                        index = (index + 1) & mask;
+                    }
+                    keys[index] = oldKeys[i];
+                    values[index] = oldValues[i];
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private V value(int index) {
+            return (V) values[index];
+        }
+    }
+}
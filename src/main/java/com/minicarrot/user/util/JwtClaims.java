@@ -0,0 +1,12 @@
+package com.minicarrot.user.util;
+
+/**
+ * 서명 검증을 마친 JWT 클레임 스냅샷
+ * - 한 번의 파싱 결과를 불변 객체로 전달하여 재파싱 방지
+ */
+public record JwtClaims(String tokenId, String email, Long userId, String nickname, long expiresAtMillis) {
+
+    public boolean isExpired(long nowMillis) {
+        return nowMillis >= expiresAtMillis;
+    }
+}
@@ -0,0 +1,272 @@
+package com.minicarrot.user.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minicarrot.user.config.JwtProperties;
+import com.minicarrot.user.config.JwtSigningProperties;
+import io.jsonwebtoken.Header;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.ProtectedHeader;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.SecretKey;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JWT 서명 키 보관소
+ * - 애플리케이션 시작 시 서명 키와 파서를 한 번만 생성
+ * - JwtParser는 불변 객체이므로 모든 요청 스레드가 공유
+ * - 비대칭 모드(EdDSA/ES256)에서는 kid로 검증 키를 찾고, kid 없는 토큰은 거부
+ * - 전환 기간에는 jwt.signing.legacy-hmac-accept-until 까지만 kid 없는 기존 HS256 토큰을 공유 비밀키로 검증
+ * - JWKS 응답은 키 생성 시점에 바이트 배열로 미리 직렬화
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JwtKeyHolder {
+
+    private static final String EPHEMERAL_KID = "ephemeral";
+    private static final int ED25519_KEY_BYTES = 32;
+    private static final int P256_COORDINATE_BYTES = 32;
+
+    private final JwtProperties jwtProperties;
+    private final JwtSigningProperties signingProperties;
+    private final ObjectMapper objectMapper;
+
+    private KeyMaterial material;
+
+    /**
+     * 서명 키 - kid가 null이면 HMAC 모드
+     */
+    public record SigningKey(String kid, Key key, SignatureAlgorithm algorithm) {
+
+        public boolean isAsymmetric() {
+            return algorithm != null;
+        }
+    }
+
+    /**
+     * 시작 시 키 생성
+     */
+    @PostConstruct
+    public void init() {
+        String secret = jwtProperties.getSecret();
+        SecretKey hmacKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        SignatureAlgorithm algorithm = resolveAlgorithm(signingProperties.getAlgorithm());
+
+        material = algorithm == null
+                ? new KeyMaterial(new SigningKey(null, hmacKey, null),
+                        Jwts.parser().verifyWith(hmacKey).build(), serializeJwks(Map.of(), null))
+                : buildAsymmetric(hmacKey, algorithm);
+
+        log.info("JWT 서명 키 초기화 완료: algorithm={}, kid={}",
+                algorithm != null ? algorithm.getId() : "HS256", material.signingKey().kid());
+    }
+
+    public SigningKey getSigningKey() {
+        return material.signingKey();
+    }
+
+    public JwtParser getParser() {
+        return material.parser();
+    }
+
+    /**
+     * 미리 직렬화된 JWKS 문서 (HS256 모드에서는 빈 키 목록)
+     */
+    public byte[] getJwks() {
+        return material.jwks();
+    }
+
+    private KeyMaterial buildAsymmetric(SecretKey hmacKey, SignatureAlgorithm algorithm) {
+        Map<String, PublicKey> verificationKeys = new LinkedHashMap<>();
+        SigningKey signingKey = null;
+
+        for (JwtSigningProperties.KeyEntry entry : signingProperties.getKeys()) {
+            if (!StringUtils.hasText(entry.getKid()) || !StringUtils.hasText(entry.getPublicKey())) {
+                throw new IllegalStateException("jwt.signing.keys 항목에는 kid와 public-key가 필요합니다.");
+            }
+            verificationKeys.put(entry.getKid(), decodePublicKey(entry.getPublicKey(), algorithm));
+
+            boolean active = StringUtils.hasText(signingProperties.getActiveKid())
+                    ? entry.getKid().equals(signingProperties.getActiveKid())
+                    : signingKey == null;
+            if (active && StringUtils.hasText(entry.getPrivateKey())) {
+                signingKey = new SigningKey(entry.getKid(), decodePrivateKey(entry.getPrivateKey(), algorithm), algorithm);
+            }
+        }
+
+        if (signingKey == null) {
+            if (!signingProperties.getKeys().isEmpty()) {
+                throw new IllegalStateException("서명에 사용할 개인키를 찾을 수 없습니다: activeKid=" + signingProperties.getActiveKid());
+            }
+            // 키 미설정 - 단일 인스턴스 개발 환경용 임시 키 (재시작하면 기존 토큰 무효)
+            KeyPair ephemeralKeyPair = generateKeyPair(algorithm);
+            log.warn("jwt.signing.keys 미설정 - 임시 {} 키를 생성합니다. 운영 환경에서는 키를 설정하세요.", algorithm.getId());
+            verificationKeys.put(EPHEMERAL_KID, ephemeralKeyPair.getPublic());
+            signingKey = new SigningKey(EPHEMERAL_KID, ephemeralKeyPair.getPrivate(), algorithm);
+        }
+
+        Instant legacyHmacAcceptUntil = signingProperties.getLegacyHmacAcceptUntil();
+        if (legacyHmacAcceptUntil != null) {
+            log.warn("kid 없는 기존 HS256 토큰을 {}까지 허용합니다.", legacyHmacAcceptUntil);
+        }
+
+        Map<String, PublicKey> keysByKid = Map.copyOf(verificationKeys);
+        JwtParser parser = Jwts.parser()
+                .keyLocator(header -> locateKey(header, keysByKid, hmacKey, legacyHmacAcceptUntil))
+                .build();
+
+        return new KeyMaterial(signingKey, parser, serializeJwks(verificationKeys, algorithm));
+    }
+
+    /**
+     * kid가 있으면 해당 공개키 반환
+     * - kid가 없으면 전환 마감 시각 전까지만 기존 HS256 토큰으로 보고 공유 비밀키 반환, 그 외에는 거부
+     * - 알고리즘과 키 종류가 맞지 않으면 jjwt가 검증 단계에서 거부
+     */
+    private static Key locateKey(Header header, Map<String, PublicKey> keysByKid, SecretKey hmacKey,
+                                 Instant legacyHmacAcceptUntil) {
+        String kid = header instanceof ProtectedHeader protectedHeader ? protectedHeader.getKeyId() : null;
+        if (kid == null) {
+            if (legacyHmacAcceptUntil != null && Instant.now().isBefore(legacyHmacAcceptUntil)) {
+                return hmacKey;
+            }
+            throw new JwtException("서명 키 ID(kid)가 없는 토큰은 허용되지 않습니다.");
+        }
+        PublicKey key = keysByKid.get(kid);
+        if (key == null) {
+            throw new JwtException("알 수 없는 서명 키 ID: " + kid);
+        }
+        return key;
+    }
+
+    private static SignatureAlgorithm resolveAlgorithm(String name) {
+        if (!StringUtils.hasText(name) || "HS256".equalsIgnoreCase(name)) {
+            return null;
+        }
+        if ("EdDSA".equalsIgnoreCase(name) || "Ed25519".equalsIgnoreCase(name)) {
+            return Jwts.SIG.EdDSA;
+        }
+        if ("ES256".equalsIgnoreCase(name)) {
+            return Jwts.SIG.ES256;
+        }
+        throw new IllegalStateException("지원하지 않는 JWT 서명 알고리즘: " + name);
+    }
+
+    private static String keyFactoryAlgorithm(SignatureAlgorithm algorithm) {
+        return algorithm == Jwts.SIG.EdDSA ? "Ed25519" : "EC";
+    }
+
+    private static PublicKey decodePublicKey(String encoded, SignatureAlgorithm algorithm) {
+        try {
+            return KeyFactory.getInstance(keyFactoryAlgorithm(algorithm))
+                    .generatePublic(new X509EncodedKeySpec(decodeDer(encoded)));
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("JWT 공개키를 읽을 수 없습니다.", e);
+        }
+    }
+
+    private static PrivateKey decodePrivateKey(String encoded, SignatureAlgorithm algorithm) {
+        try {
+            return KeyFactory.getInstance(keyFactoryAlgorithm(algorithm))
+                    .generatePrivate(new PKCS8EncodedKeySpec(decodeDer(encoded)));
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("JWT 개인키를 읽을 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * PEM 머리글/공백을 제거하고 Base64 디코딩
+     */
+    private static byte[] decodeDer(String encoded) {
+        String base64 = encoded.replaceAll("-----[A-Z ]+-----", "").replaceAll("\\s", "");
+        return Base64.getDecoder().decode(base64);
+    }
+
+    private static KeyPair generateKeyPair(SignatureAlgorithm algorithm) {
+        try {
+            if (algorithm == Jwts.SIG.EdDSA) {
+                return KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+            }
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec("secp256r1"));
+            return generator.generateKeyPair();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("JWT 임시 키 생성 실패", e);
+        }
+    }
+
+    /**
+     * JWKS 문서를 한 번만 직렬화 (요청마다 바이트 배열을 그대로 응답)
+     */
+    private byte[] serializeJwks(Map<String, PublicKey> keysByKid, SignatureAlgorithm algorithm) {
+        List<Map<String, String>> keys = new ArrayList<>();
+        keysByKid.forEach((kid, key) -> keys.add(toJwk(kid, key, algorithm)));
+        try {
+            return objectMapper.writeValueAsBytes(Map.of("keys", keys));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("JWKS 직렬화 실패", e);
+        }
+    }
+
+    private static Map<String, String> toJwk(String kid, PublicKey key, SignatureAlgorithm algorithm) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        Map<String, String> jwk = new LinkedHashMap<>();
+        if (algorithm == Jwts.SIG.EdDSA) {
+            // X.509 인코딩의 마지막 32바이트가 Ed25519 원시 공개키
+            byte[] encoded = key.getEncoded();
+            jwk.put("kty", "OKP");
+            jwk.put("crv", "Ed25519");
+            jwk.put("x", encoder.encodeToString(Arrays.copyOfRange(encoded, encoded.length - ED25519_KEY_BYTES, encoded.length)));
+        } else {
+            ECPublicKey ecKey = (ECPublicKey) key;
+            jwk.put("kty", "EC");
+            jwk.put("crv", "P-256");
+            jwk.put("x", encoder.encodeToString(unsignedCoordinate(ecKey.getW().getAffineX())));
+            jwk.put("y", encoder.encodeToString(unsignedCoordinate(ecKey.getW().getAffineY())));
+        }
+        jwk.put("kid", kid);
+        jwk.put("use", "sig");
+        jwk.put("alg", algorithm.getId());
+        return jwk;
+    }
+
+    private static byte[] unsignedCoordinate(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        byte[] fixed = new byte[P256_COORDINATE_BYTES];
+        int length = Math.min(bytes.length, P256_COORDINATE_BYTES);
+        System.arraycopy(bytes, bytes.length - length, fixed, P256_COORDINATE_BYTES - length, length);
+        return fixed;
+    }
+
+    private record KeyMaterial(SigningKey signingKey, JwtParser parser, byte[] jwks) {
+    }
+}
@@ -4,13 +4,13 @@ import com.minicarrot.user.common.Constants.ErrorMessage;
 import com.minicarrot.user.common.Constants.JwtConstants;
 import com.minicarrot.user.config.JwtProperties;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
+import java.security.PrivateKey;
 import java.util.Date;
+import java.util.UUID;
 
 @Slf4j
 @Component
@@ -18,20 +18,27 @@ import java.util.Date;
 public class JwtUtil {
 
     private final JwtProperties jwtProperties;
-
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes());
-    }
+    private final JwtKeyHolder jwtKeyHolder;
 
     public String generateToken(String email, Long userId, String nickname) {
         try {
-            String token = Jwts.builder()
+            JwtKeyHolder.SigningKey signingKey = jwtKeyHolder.getSigningKey();
+            JwtBuilder builder = Jwts.builder();
+            if (signingKey.isAsymmetric()) {
+                // 검증 측이 JWKS에서 공개키를 찾을 수 있도록 kid 포함
+                builder.header().keyId(signingKey.kid()).and();
+                builder.signWith((PrivateKey) signingKey.key(), signingKey.algorithm());
+            } else {
+                builder.signWith(signingKey.key());
+            }
+
+            String token = builder
+                    .id(UUID.randomUUID().toString())
                     .subject(email)
                     .claim(JwtConstants.USER_ID_CLAIM, userId)
                     .claim(JwtConstants.NICKNAME_CLAIM, nickname)
                     .issuedAt(new Date())
                     .expiration(new Date(System.currentTimeMillis() + jwtProperties.getExpiration()))
-                    .signWith(getSigningKey())
                     .compact();
             
             log.debug("JWT 토큰 생성 성공: email={}", email);
@@ -42,38 +49,27 @@ public class JwtUtil {
         }
     }
 
-    public String getEmailFromToken(String token) {
-        return getClaims(token).getSubject();
-    }
-
-    public Long getUserIdFromToken(String token) {
-        return getClaims(token).get(JwtConstants.USER_ID_CLAIM, Long.class);
-    }
-
-    public String getNicknameFromToken(String token) {
-        return getClaims(token).get(JwtConstants.NICKNAME_CLAIM, String.class);
-    }
-
-    public boolean isTokenValid(String token) {
-        try {
-            getClaims(token);
-            return true;
-        } catch (JwtException e) {
-            log.warn("유효하지 않은 JWT 토큰: {}", e.getMessage());
-            return false;
-        }
-    }
-
-    private Claims getClaims(String token) {
+    /**
+     * 토큰 서명을 한 번만 검증하고 클레임 스냅샷 반환
+     */
+    public JwtClaims verifyToken(String token) {
+        Claims claims;
         try {
-            return Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
+            claims = jwtKeyHolder.getParser()
                     .parseSignedClaims(token)
                     .getPayload();
-        } catch (JwtException e) {
-            log.error("JWT 토큰 파싱 실패: {}", e.getMessage());
-            throw e;
+        } catch (JwtException | IllegalArgumentException e) {
+            log.warn("유효하지 않은 JWT 토큰: {}", e.getMessage());
+            throw new IllegalArgumentException(ErrorMessage.INVALID_TOKEN, e);
         }
+
+        Date expiration = claims.getExpiration();
+        return new JwtClaims(
+                claims.getId(),
+                claims.getSubject(),
+                claims.get(JwtConstants.USER_ID_CLAIM, Long.class),
+                claims.get(JwtConstants.NICKNAME_CLAIM, String.class),
+                expiration != null ? expiration.getTime() : Long.MAX_VALUE
+        );
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,65 @@
+package com.minicarrot.user.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import org.springframework.util.DigestUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 미리 직렬화한 JSON 값 + ETag
+ * - 응답/이벤트에 포함될 때 객체 그래프를 다시 순회하지 않고 UTF-8 바이트를 그대로 기록
+ * - 원본 객체는 불변이어야 함 (직렬화 결과와 달라지지 않도록)
+ */
+public final class PreSerializedJson extends JsonSerializable.Base {
+
+    private final SerializedString json;
+    private final String etag;
+
+    private PreSerializedJson(SerializedString json, String etag) {
+        this.json = json;
+        this.etag = etag;
+    }
+
+    public static PreSerializedJson of(ObjectMapper objectMapper, Object value) {
+        try {
+            byte[] bytes = objectMapper.writeValueAsBytes(value);
+            SerializedString json = new SerializedString(new String(bytes, StandardCharsets.UTF_8));
+            // UTF-8 바이트를 미리 계산해 두면 이후 기록 시 인코딩 없이 복사만 함
+            json.asUnquotedUTF8();
+            return new PreSerializedJson(json, "W/\"" + DigestUtils.md5DigestAsHex(bytes) + "\"");
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("JSON 직렬화 실패: " + value.getClass().getSimpleName(), e);
+        }
+    }
+
+    /**
+     * 약한 ETag - 감싸는 응답(응답 시각 등)은 달라도 데이터가 같으면 같은 값
+     */
+    public String getEtag() {
+        return etag;
+    }
+
+    /**
+     * 추정 메모리 크기 (문자열 + UTF-8 바이트)
+     */
+    public int estimateSize() {
+        return json.charLength() * 3;
+    }
+
+    @Override
+    public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        gen.writeRawValue(json);
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer) throws IOException {
+        serialize(gen, serializers);
+    }
+}
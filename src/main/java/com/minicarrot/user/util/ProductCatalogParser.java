@@ -0,0 +1,103 @@
+package com.minicarrot.user.util;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minicarrot.user.dto.ProductSummaryDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * 상품 목록 응답 스트리밍 파서
+ * - { "success": ..., "data": [ ... ] } 응답을 토큰 단위로 읽으며 상품을 하나씩 바인딩
+ * - 조건에 맞는 상품만 넘기므로 전체 목록을 메모리에 올리지 않음
+ * - data가 페이지 객체({ "content": [ ... ] })인 응답도 처리
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductCatalogParser {
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 응답을 끝까지 읽고 data 배열의 상품 수 반환 - success가 true가 아니면 IllegalStateException
+     */
+    public int parse(InputStream body, Predicate<ProductSummaryDto> filter, Consumer<ProductSummaryDto> sink) throws IOException {
+        try (JsonParser parser = objectMapper.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalStateException("상품 목록 응답 형식이 올바르지 않습니다.");
+            }
+
+            boolean success = false;
+            int count = 0;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("success".equals(field)) {
+                    success = value == JsonToken.VALUE_TRUE;
+                } else if ("data".equals(field)) {
+                    count += readData(parser, value, filter, sink);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+
+            if (!success) {
+                throw new IllegalStateException("상품 목록 조회 실패 응답");
+            }
+            return count;
+        }
+    }
+
+    /**
+     * 판매자 한 명의 상품만 골라 반환 - 나머지 상품은 바인딩 직후 버려지므로 메모리는 전체 목록 크기와 무관
+     */
+    public List<ProductSummaryDto> parseForSeller(InputStream body, long sellerId) throws IOException {
+        List<ProductSummaryDto> products = new ArrayList<>();
+        parse(body, product -> Long.valueOf(sellerId).equals(product.resolveSellerId()), products::add);
+        return List.copyOf(products);
+    }
+
+    private int readData(JsonParser parser, JsonToken token, Predicate<ProductSummaryDto> filter,
+                         Consumer<ProductSummaryDto> sink) throws IOException {
+        if (token == JsonToken.START_ARRAY) {
+            return readProducts(parser, filter, sink);
+        }
+        if (token != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return 0;
+        }
+
+        int count = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("content".equals(field) && value == JsonToken.START_ARRAY) {
+                count += readProducts(parser, filter, sink);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return count;
+    }
+
+    private int readProducts(JsonParser parser, Predicate<ProductSummaryDto> filter,
+                             Consumer<ProductSummaryDto> sink) throws IOException {
+        int count = 0;
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            ProductSummaryDto product = parser.readValueAs(ProductSummaryDto.class);
+            count++;
+            if (filter.test(product)) {
+                sink.accept(product);
+            }
+        }
+        return count;
+    }
+}
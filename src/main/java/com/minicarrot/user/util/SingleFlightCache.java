@@ -0,0 +1,71 @@
+package com.minicarrot.user.util;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 동일 키 동시 요청 합치기(single-flight) + 짧은 결과 캐시
+ * - 같은 키로 진행 중인 조회가 있으면 새로 호출하지 않고 그 결과를 함께 기다림
+ * - 완료된 결과는 ttl 동안 재사용, 실패하거나 null이면 캐시하지 않음 (다음 요청이 재시도)
+ */
+public class SingleFlightCache<K, V> {
+
+    private final AsyncCache<K, V> cache;
+
+    public SingleFlightCache(Duration ttl, long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .buildAsync();
+    }
+
+    /**
+     * blocking 조회 - 처음 들어온 스레드가 직접 로드하고, 나머지는 timeout까지 결과 대기
+     */
+    public V get(K key, Callable<V> loader, Duration timeout) throws Exception {
+        CompletableFuture<V> loading = new CompletableFuture<>();
+        CompletableFuture<V> inFlight = cache.asMap().putIfAbsent(key, loading);
+
+        if (inFlight == null) {
+            try {
+                V value = loader.call();
+                loading.complete(value);
+                return value;
+            } catch (Throwable e) {
+                // Error도 대기 중인 스레드에 전달해야 future가 영원히 남지 않음
+                loading.completeExceptionally(e);
+                throw e;
+            }
+        }
+
+        try {
+            return inFlight.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        } catch (TimeoutException e) {
+            throw new TimeoutException("진행 중인 조회 대기 시간 초과: key=" + key);
+        }
+    }
+
+    /**
+     * 비동기 조회 - 진행 중이거나 캐시된 future를 공유
+     */
+    public CompletableFuture<V> getAsync(K key, Supplier<CompletableFuture<V>> loader) {
+        return cache.get(key, (k, executor) -> loader.get());
+    }
+
+    public void invalidate(K key) {
+        cache.synchronous().invalidate(key);
+    }
+}
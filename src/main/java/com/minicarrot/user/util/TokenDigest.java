@@ -0,0 +1,51 @@
+package com.minicarrot.user.util;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 토큰 캐시 키 - 토큰 전체의 SHA-256 다이제스트 앞 128비트
+ * - 서로 다른 토큰이 같은 키를 갖지 않도록 전체 토큰을 해시
+ * - long 두 개로만 구성되어 equals/hashCode에 객체 할당 없음
+ * - 원문 토큰을 담지 않으므로 외부 캐시 계층과 공유해도 안전
+ */
+public record TokenDigest(long high, long low) {
+
+    public static final int BYTES = 16;
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    });
+
+    public static TokenDigest of(String token) {
+        byte[] hash = SHA_256.get().digest(token.getBytes(StandardCharsets.UTF_8));
+        ByteBuffer buffer = ByteBuffer.wrap(hash);
+        return new TokenDigest(buffer.getLong(), buffer.getLong());
+    }
+
+    public static TokenDigest fromBytes(byte[] bytes) {
+        if (bytes.length != BYTES) {
+            throw new IllegalArgumentException("다이제스트 길이가 올바르지 않습니다: " + bytes.length);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new TokenDigest(buffer.getLong(), buffer.getLong());
+    }
+
+    /**
+     * 외부 저장소 전달용 고정 길이(16바이트) 직렬화
+     */
+    public byte[] toBytes() {
+        return ByteBuffer.allocate(BYTES).putLong(high).putLong(low).array();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%016x%016x", high, low);
+    }
+}
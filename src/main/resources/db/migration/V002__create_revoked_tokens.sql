@@ -0,0 +1,20 @@
+-- =====================================================
+-- Mini Carrot User Service - 토큰 폐기 목록
+-- =====================================================
+
+USE mini_carrot_user;
+
+-- =====================================================
+-- 만료 전에 폐기된 JWT (jti 기준)
+-- - 토큰 만료 시각이 지난 행은 애플리케이션이 주기적으로 삭제
+-- =====================================================
+CREATE TABLE IF NOT EXISTS revoked_tokens (
+    token_id VARCHAR(64) PRIMARY KEY,
+    user_id BIGINT,
+    expires_at DATETIME(6) NOT NULL,
+    revoked_at DATETIME(6) NOT NULL,
+
+    -- 인덱스 생성
+    INDEX idx_revoked_tokens_expires_at (expires_at),
+    INDEX idx_revoked_tokens_revoked_at (revoked_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
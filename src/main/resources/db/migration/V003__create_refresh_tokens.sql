@@ -0,0 +1,25 @@
+-- =====================================================
+-- Mini Carrot User Service - 리프레시 토큰
+-- =====================================================
+
+USE mini_carrot_user;
+
+-- =====================================================
+-- 리프레시 토큰 (원문 대신 SHA-256 해시 저장)
+-- - family_id: 같은 로그인에서 회전된 토큰 묶음 (재사용 감지 시 일괄 폐기)
+-- - used_at: 회전에 사용된 시각 (값이 있는 토큰이 다시 오면 재사용)
+-- =====================================================
+CREATE TABLE IF NOT EXISTS refresh_tokens (
+    token_hash CHAR(64) PRIMARY KEY,
+    family_id VARCHAR(36) NOT NULL,
+    user_id BIGINT NOT NULL,
+    expires_at DATETIME(6) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    used_at DATETIME(6),
+    revoked BOOLEAN NOT NULL DEFAULT FALSE,
+
+    -- 인덱스 생성
+    INDEX idx_refresh_tokens_family_id (family_id),
+    INDEX idx_refresh_tokens_user_id (user_id),
+    INDEX idx_refresh_tokens_expires_at (expires_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -0,0 +1,120 @@
+package com.minicarrot.user.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minicarrot.user.config.DashboardCacheProperties;
+import com.minicarrot.user.controller.NotificationController;
+import com.minicarrot.user.dto.ProductStatsDto;
+import com.minicarrot.user.dto.ProductSummaryDto;
+import com.minicarrot.user.service.CacheInvalidationBus.Topic;
+import com.minicarrot.user.util.PreSerializedJson;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.LongConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 로드/갱신 중 들어온 상품 이벤트가 로드 결과에 덮어써지지 않는지 확인
+ */
+class AsyncDashboardServiceTest {
+
+    private static final long USER_ID = 1L;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ProductStatsBatcher productStatsBatcher = mock(ProductStatsBatcher.class);
+    private final ReactiveProductServiceClient productServiceClient = mock(ReactiveProductServiceClient.class);
+    private final CacheInvalidationBus invalidationBus = mock(CacheInvalidationBus.class);
+
+    private AsyncDashboardService service;
+
+    @BeforeEach
+    void setUp() {
+        when(productServiceClient.getUserProducts(eq(USER_ID), any())).thenReturn(Mono.just(List.of()));
+        service = new AsyncDashboardService(productServiceClient, productStatsBatcher, Runnable::run,
+                mock(NotificationController.class), objectMapper, new DashboardCacheProperties(),
+                new SimpleMeterRegistry(), invalidationBus);
+    }
+
+    @Test
+    void eventDuringFirstLoadIsAppliedOnTopOfLoadedStats() throws Exception {
+        CompletableFuture<ProductStatsDto> upstream = new CompletableFuture<>();
+        when(productStatsBatcher.load(USER_ID)).thenReturn(upstream);
+
+        service.getDashboardData(USER_ID);
+        service.onProductRegistered(USER_ID, product(10L));
+        upstream.complete(stats(3));
+
+        assertThat(registeredProducts(awaitCached())).isEqualTo(4);
+    }
+
+    @Test
+    void refreshThatStartedBeforeEventDoesNotOverwriteIt() throws Exception {
+        when(productStatsBatcher.load(USER_ID)).thenReturn(CompletableFuture.completedFuture(stats(3)));
+        service.getDashboardData(USER_ID);
+        awaitCached();
+
+        CompletableFuture<ProductStatsDto> refresh = new CompletableFuture<>();
+        when(productStatsBatcher.load(USER_ID)).thenReturn(refresh);
+        service.loadDashboardDataAsync(USER_ID);
+        service.onProductRegistered(USER_ID, product(10L));
+        // 이벤트 반영 전에 읽은 상류 값
+        refresh.complete(stats(3));
+        Thread.sleep(100);
+
+        assertThat(registeredProducts(service.getCachedDashboardData(USER_ID))).isEqualTo(4);
+    }
+
+    @Test
+    void eventsArePublishedAndRemoteChangesRefreshCachedUsers() throws Exception {
+        when(productStatsBatcher.load(USER_ID)).thenReturn(CompletableFuture.completedFuture(stats(3)));
+        service.getDashboardData(USER_ID);
+        awaitCached();
+
+        service.onProductRegistered(USER_ID, product(10L));
+        verify(invalidationBus).publish(Topic.DASHBOARD, USER_ID);
+
+        ArgumentCaptor<LongConsumer> listener = ArgumentCaptor.forClass(LongConsumer.class);
+        verify(invalidationBus).subscribe(eq(Topic.DASHBOARD), listener.capture());
+        listener.getValue().accept(USER_ID);
+        // 캐시에 없는 사용자는 재조회하지 않음
+        listener.getValue().accept(2L);
+
+        verify(productStatsBatcher, times(2)).load(USER_ID);
+        verify(productStatsBatcher, times(0)).load(2L);
+    }
+
+    private PreSerializedJson awaitCached() throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            PreSerializedJson cached = service.getCachedDashboardData(USER_ID);
+            if (cached != null) {
+                return cached;
+            }
+            Thread.sleep(20);
+        }
+        throw new AssertionError("대시보드 로드가 끝나지 않음");
+    }
+
+    private int registeredProducts(PreSerializedJson payload) throws Exception {
+        return objectMapper.readTree(objectMapper.writeValueAsString(payload)).path("stats").path("registeredProducts").asInt();
+    }
+
+    private static ProductStatsDto stats(int registered) {
+        return ProductStatsDto.builder().userId(USER_ID).registeredProducts(registered).build();
+    }
+
+    private static ProductSummaryDto product(long productId) {
+        return ProductSummaryDto.builder().productId(productId).sellerId(USER_ID).status("AVAILABLE").build();
+    }
+}
@@ -0,0 +1,100 @@
+package com.minicarrot.user.service;
+
+import com.minicarrot.user.config.CacheInvalidationProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoopbackCacheInvalidationBusTest {
+
+    private final List<long[]> sentBatches = new CopyOnWriteArrayList<>();
+    private final List<Long> receivedByA = new CopyOnWriteArrayList<>();
+    private final List<Long> receivedByB = new CopyOnWriteArrayList<>();
+
+    private LoopbackCacheInvalidationBus busA;
+    private LoopbackCacheInvalidationBus busB;
+
+    @BeforeEach
+    void setUp() {
+        CacheInvalidationProperties properties = new CacheInvalidationProperties();
+        // 테스트에서는 stop()으로 직접 flush
+        properties.setFlushInterval(Duration.ofHours(1));
+        properties.setMaxBatchSize(2);
+
+        busA = new LoopbackCacheInvalidationBus(properties) {
+            @Override
+            protected void send(Topic topic, long[] ids) {
+                sentBatches.add(ids);
+                super.send(topic, ids);
+            }
+        };
+        busB = new LoopbackCacheInvalidationBus(properties);
+        busA.subscribe(receivedByA::add);
+        busB.subscribe(receivedByB::add);
+        busA.start();
+        busB.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        busA.stop();
+        busB.stop();
+    }
+
+    @Test
+    void invalidationOnOneBusEvictsOnTheOther() {
+        busA.publishUserInvalidation(1L);
+        busA.stop();
+
+        assertThat(sentBatches).hasSize(1);
+        assertThat(receivedByB).containsExactly(1L);
+        assertThat(receivedByA).isEmpty();
+    }
+
+    @Test
+    void stoppedBusNoLongerReceives() {
+        busB.stop();
+        busA.publishUserInvalidation(2L);
+        busA.stop();
+
+        assertThat(sentBatches).hasSize(1);
+        assertThat(receivedByB).isEmpty();
+    }
+
+    @Test
+    void topicsAreDeliveredOnlyToTheirSubscribers() {
+        List<Long> sellersOnB = new CopyOnWriteArrayList<>();
+        busB.subscribe(CacheInvalidationBus.Topic.SELLER_PRODUCTS, sellersOnB::add);
+
+        busA.publish(CacheInvalidationBus.Topic.SELLER_PRODUCTS, 42L);
+        busA.publishUserInvalidation(1L);
+        busA.stop();
+
+        assertThat(sellersOnB).containsExactly(42L);
+        assertThat(receivedByB).containsExactly(1L);
+    }
+
+    @Test
+    void pendingInvalidationsAreDeduplicatedAndSplitIntoBatches() {
+        busA.publishUserInvalidation(1L);
+        busA.publishUserInvalidation(1L);
+        busA.publishUserInvalidation(3L);
+        busA.publishUserInvalidation(5L);
+        busA.stop();
+
+        List<Long> sent = new ArrayList<>();
+        sentBatches.forEach(batch -> Arrays.stream(batch).forEach(sent::add));
+        assertThat(sent).containsOnly(1L, 3L, 5L);
+        assertThat(sentBatches).allSatisfy(batch -> assertThat(batch.length).isLessThanOrEqualTo(2));
+        assertThat(receivedByB).containsOnly(1L, 3L, 5L);
+        assertThat(receivedByA).isEmpty();
+    }
+}
@@ -0,0 +1,132 @@
+package com.minicarrot.user.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minicarrot.user.config.ProductIndexProperties;
+import com.minicarrot.user.dto.ProductSummaryDto;
+import com.minicarrot.user.service.CacheInvalidationBus.Topic;
+import com.minicarrot.user.util.ProductCatalogParser;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 재적재 중 들어온 이벤트 재반영과 다른 인스턴스 변경 알림(stale 표시) 확인
+ */
+class ProductSellerIndexTest {
+
+    private static final String CATALOG_RESPONSE =
+            "{\"success\":true,\"data\":[{\"productId\":1,\"title\":\"자전거\",\"sellerId\":7,\"status\":\"AVAILABLE\"}]}";
+
+    private final RecordingBus bus = new RecordingBus();
+
+    private HttpServer server;
+    private ProductSellerIndex index;
+    private Runnable duringLoad = () -> { };
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/api/products", exchange -> {
+            duringLoad.run();
+            byte[] body = CATALOG_RESPONSE.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+
+        ProductIndexProperties properties = new ProductIndexProperties();
+        // 테스트에서는 reseed()를 직접 호출
+        properties.setEnabled(false);
+        index = new ProductSellerIndex(new RestTemplate(), new ProductCatalogParser(new ObjectMapper()), properties,
+                "http://127.0.0.1:" + server.getAddress().getPort(), bus);
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.destroy();
+        server.stop(0);
+    }
+
+    @Test
+    void statusChangeDuringReseedSurvivesTheSwap() {
+        duringLoad = () -> index.onProductStatusChanged(7L, 1L, null, "SOLD");
+
+        index.reseed();
+
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.getProducts(7L)).extracting(ProductSummaryDto::getStatus).containsExactly("SOLD");
+    }
+
+    @Test
+    void registrationDuringReseedIsKeptAheadOfLoadedProducts() {
+        duringLoad = () -> index.onProductRegistered(7L, 2L, "헬멧");
+
+        index.reseed();
+
+        assertThat(index.getProducts(7L)).extracting(ProductSummaryDto::getProductId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void localEventsArePublishedAndRemoteChangesMarkSellerStale() {
+        index.reseed();
+        index.onProductPurchased(7L, 1L);
+        assertThat(bus.published).containsExactly(7L);
+
+        bus.receive(Topic.SELLER_PRODUCTS, 9L);
+        Long mark = index.staleMark(9L);
+        assertThat(mark).isNotNull();
+
+        index.refreshSeller(9L, List.of(ProductSummaryDto.builder().productId(5L).sellerId(9L).build()), mark);
+        assertThat(index.staleMark(9L)).isNull();
+        assertThat(index.getProducts(9L)).extracting(ProductSummaryDto::getProductId).containsExactly(5L);
+    }
+
+    @Test
+    void refreshWithOutdatedMarkKeepsSellerStale() {
+        bus.receive(Topic.SELLER_PRODUCTS, 9L);
+        Long first = index.staleMark(9L);
+        bus.receive(Topic.SELLER_PRODUCTS, 9L);
+
+        index.refreshSeller(9L, List.of(), first);
+
+        assertThat(index.staleMark(9L)).isNotNull().isNotEqualTo(first);
+    }
+
+    private static class RecordingBus implements CacheInvalidationBus {
+
+        private final List<Long> published = new ArrayList<>();
+        private final Map<Topic, List<LongConsumer>> listeners = new EnumMap<>(Topic.class);
+
+        @Override
+        public void publish(Topic topic, long id) {
+            if (topic == Topic.SELLER_PRODUCTS) {
+                published.add(id);
+            }
+        }
+
+        @Override
+        public void subscribe(Topic topic, LongConsumer listener) {
+            listeners.computeIfAbsent(topic, key -> new ArrayList<>()).add(listener);
+        }
+
+        void receive(Topic topic, long id) {
+            listeners.getOrDefault(topic, List.of()).forEach(listener -> listener.accept(id));
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.minicarrot.user.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minicarrot.user.config.HttpClientConfig;
+import com.minicarrot.user.config.ProductServiceHttpProperties;
+import com.minicarrot.user.dto.ProductStatsDto;
+import com.minicarrot.user.util.ProductCatalogParser;
+import com.sun.net.httpserver.HttpServer;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 타임아웃별 RestTemplate이 공유 커넥션 풀의 keep-alive 연결을 재사용하는지 확인
+ */
+class ProductServiceClientConnectionReuseTest {
+
+    private static final String STATS_RESPONSE =
+            "{\"success\":true,\"data\":{\"registeredCount\":3,\"soldCount\":1}}";
+
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger requests = new AtomicInteger();
+
+    private HttpServer server;
+    private PoolingHttpClientConnectionManager connectionManager;
+    private CloseableHttpClient httpClient;
+    private ProductServiceClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/api/products/stats/", exchange -> {
+            // 같은 TCP 연결이면 클라이언트 포트가 같음
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            requests.incrementAndGet();
+            byte[] body = STATS_RESPONSE.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+
+        HttpClientConfig config = new HttpClientConfig();
+        ProductServiceHttpProperties properties = new ProductServiceHttpProperties();
+        connectionManager = config.productServiceConnectionManager(properties, new SimpleMeterRegistry());
+        httpClient = config.productServiceHttpClient(connectionManager, properties);
+
+        client = new ProductServiceClient(httpClient, mock(ProductSellerIndex.class),
+                new ProductCatalogParser(new ObjectMapper()), CircuitBreaker.ofDefaults("test"),
+                Bulkhead.ofDefaults("stats"), Bulkhead.ofDefaults("list"));
+        ReflectionTestUtils.setField(client, "productServiceUrl", "http://127.0.0.1:" + server.getAddress().getPort());
+        ReflectionTestUtils.setField(client, "resultCacheTtl", Duration.ofMillis(1));
+        client.init();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        httpClient.close();
+        connectionManager.close();
+        server.stop(0);
+    }
+
+    @Test
+    void sequentialCallsWithDifferentTimeoutsReuseOneConnection() {
+        for (long userId = 1; userId <= 20; userId++) {
+            int timeoutMs = userId % 2 == 0 ? 1_000 : 3_000;
+            ProductStatsDto stats = client.getUserProductStatsWithTimeout(userId, timeoutMs);
+            assertThat(stats.getRegisteredProducts()).isEqualTo(3);
+        }
+
+        assertThat(requests.get()).isEqualTo(20);
+        assertThat(clientPorts).hasSize(1);
+        assertThat(connectionManager.getTotalStats().getAvailable()).isEqualTo(1);
+        assertThat(connectionManager.getTotalStats().getLeased()).isZero();
+    }
+}
@@ -0,0 +1,166 @@
+package com.minicarrot.user.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConcurrentLongMapTest {
+
+    // 스트라이프 초기 용량 (ConcurrentLongMap.INITIAL_STRIPE_CAPACITY와 동일)
+    private static final int SLOT_MASK = 15;
+
+    @Test
+    void putGetRemoveAndSize() {
+        ConcurrentLongMap<String> map = new ConcurrentLongMap<>();
+
+        assertThat(map.put(1L, "a")).isNull();
+        assertThat(map.put(1L, "b")).isEqualTo("a");
+        assertThat(map.put(-1L, "c")).isNull();
+        assertThat(map.put(0L, "zero")).isNull();
+
+        assertThat(map.get(1L)).isEqualTo("b");
+        assertThat(map.get(0L)).isEqualTo("zero");
+        assertThat(map.get(2L)).isNull();
+        assertThat(map.size()).isEqualTo(3);
+
+        assertThat(map.remove(1L)).isEqualTo("b");
+        assertThat(map.remove(1L)).isNull();
+        assertThat(map.size()).isEqualTo(2);
+
+        map.clear();
+        assertThat(map.isEmpty()).isTrue();
+        assertThatThrownBy(() -> map.put(3L, null)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void collidingKeysStayReachableAfterRemoval() {
+        ConcurrentLongMap<Long> map = new ConcurrentLongMap<>(1);
+        List<Long> keys = keysWithSlot(3, 5);
+        keys.forEach(key -> map.put(key, key));
+
+        // 탐사 체인 중간 항목 삭제 후에도 뒤쪽 항목을 찾을 수 있어야 함
+        map.remove(keys.get(1));
+        assertThat(map.get(keys.get(1))).isNull();
+        for (int i = 0; i < keys.size(); i++) {
+            if (i != 1) {
+                assertThat(map.get(keys.get(i))).isEqualTo(keys.get(i));
+            }
+        }
+        assertThat(map.size()).isEqualTo(4);
+    }
+
+    @Test
+    void deleteAndReinsertAcrossWraparound() {
+        ConcurrentLongMap<Long> map = new ConcurrentLongMap<>(1);
+        // 마지막 슬롯에서 시작해 0번 슬롯 쪽으로 넘어가는 체인
+        List<Long> tail = keysWithSlot(SLOT_MASK, 3);
+        List<Long> head = keysWithSlot(0, 2);
+        tail.forEach(key -> map.put(key, key));
+        head.forEach(key -> map.put(key, key));
+
+        map.remove(tail.get(0));
+        tail.subList(1, tail.size()).forEach(key -> assertThat(map.get(key)).isEqualTo(key));
+        head.forEach(key -> assertThat(map.get(key)).isEqualTo(key));
+
+        map.put(tail.get(0), -1L);
+        assertThat(map.get(tail.get(0))).isEqualTo(-1L);
+        assertThat(map.size()).isEqualTo(5);
+
+        assertThat(map.removeIf((key, value) -> head.contains(key))).isEqualTo(2);
+        tail.subList(1, tail.size()).forEach(key -> assertThat(map.get(key)).isEqualTo(key));
+        assertThat(map.get(tail.get(0))).isEqualTo(-1L);
+        assertThat(map.size()).isEqualTo(3);
+    }
+
+    @Test
+    void matchesHashMapUnderRandomOperations() {
+        ConcurrentLongMap<Integer> map = new ConcurrentLongMap<>(4);
+        Map<Long, Integer> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 50_000; i++) {
+            long key = random.nextInt(2_000);
+            if (random.nextInt(3) == 0) {
+                assertThat(map.remove(key)).isEqualTo(expected.remove(key));
+            } else {
+                assertThat(map.put(key, i)).isEqualTo(expected.put(key, i));
+            }
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        expected.forEach((key, value) -> assertThat(map.get(key)).isEqualTo(value));
+    }
+
+    @Test
+    void concurrentComputeAcrossResizes() throws Exception {
+        ConcurrentLongMap<Integer> map = new ConcurrentLongMap<>(2);
+        int threads = 8;
+        int keys = 5_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (long key = 0; key < keys; key++) {
+                        map.compute(key, (k, current) -> current == null ? 1 : current + 1);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(map.size()).isEqualTo(keys);
+        for (long key = 0; key < keys; key++) {
+            assertThat(map.get(key)).isEqualTo(threads);
+        }
+
+        map.removeIf((key, value) -> key % 2 == 0);
+        assertThat(map.size()).isEqualTo(keys / 2);
+        assertThat(map.computeIfPresent(0L, (k, current) -> current + 1)).isNull();
+        assertThat(map.computeIfPresent(1L, (k, current) -> null)).isNull();
+        assertThat(map.containsKey(1L)).isFalse();
+    }
+
+    /**
+     * 초기 테이블에서 같은 슬롯을 이상 위치로 갖는 키 목록
+     */
+    private static List<Long> keysWithSlot(int slot, int count) {
+        List<Long> keys = new ArrayList<>();
+        for (long key = 1; keys.size() < count; key++) {
+            if (((int) mix(key) & SLOT_MASK) == slot) {
+                keys.add(key);
+            }
+        }
+        return keys;
+    }
+
+    private static long mix(long key) {
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
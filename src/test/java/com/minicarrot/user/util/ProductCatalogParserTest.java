@@ -0,0 +1,49 @@
+package com.minicarrot.user.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minicarrot.user.dto.ProductSummaryDto;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProductCatalogParserTest {
+
+    private final ProductCatalogParser parser = new ProductCatalogParser(new ObjectMapper());
+
+    @Test
+    void keepsOnlyRequestedSellerAndSkipsUnknownFields() throws Exception {
+        String json = "{\"success\":true,\"data\":["
+                + "{\"productId\":1,\"title\":\"a\",\"sellerId\":7,\"price\":1000,\"images\":[{\"url\":\"x\"}]},"
+                + "{\"productId\":2,\"title\":\"b\",\"sellerId\":8},"
+                + "{\"productId\":3,\"title\":\"c\",\"userId\":7,\"detail\":{\"nested\":true}}]}";
+
+        List<ProductSummaryDto> products = parser.parseForSeller(body(json), 7L);
+
+        assertThat(products).extracting(ProductSummaryDto::getProductId).containsExactly(1L, 3L);
+        assertThat(products.get(0).getPrice()).isEqualTo(1000.0);
+    }
+
+    @Test
+    void readsPagedData() throws Exception {
+        String json = "{\"data\":{\"content\":[{\"productId\":4,\"sellerId\":7}],\"totalPages\":1},\"success\":true}";
+
+        assertThat(parser.parseForSeller(body(json), 7L)).extracting(ProductSummaryDto::getProductId).containsExactly(4L);
+    }
+
+    @Test
+    void rejectsFailureResponse() {
+        String json = "{\"success\":false,\"data\":[]}";
+
+        assertThatThrownBy(() -> parser.parseForSeller(body(json), 7L)).isInstanceOf(IllegalStateException.class);
+    }
+
+    private static InputStream body(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}